@@ -18,6 +18,7 @@ plugins {
     alias(libs.plugins.indra.publishing.sonatype)
     alias(libs.plugins.eventImplGen)
     alias(libs.plugins.ideaExt)
+    alias(libs.plugins.jmh)
     alias(libs.plugins.errorprone)
     alias(libs.plugins.nexusPublish)
 }
@@ -128,6 +129,7 @@ dependencies {
     testRuntimeOnly(libs.junit.engine)
     testRuntimeOnly(libs.junit.launcher)
     testImplementation(libs.mockito)
+    testImplementation(ap.get().output)
 }
 
 tasks {
@@ -259,6 +261,10 @@ indra {
     }
 }
 
+jmh {
+    jmhVersion = libs.versions.jmh
+}
+
 indraCrossdoc {
     baseUrl(providers.gradleProperty("javadocPublishRoot"))
     nameBasedDocumentationUrlProvider {
@@ -0,0 +1,531 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.plugin.processor;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.api.event.filter.Getter;
+import org.spongepowered.api.event.filter.IsCancelled;
+import org.spongepowered.api.event.filter.ListenerFilter;
+import org.spongepowered.api.event.filter.cause.After;
+import org.spongepowered.api.event.filter.cause.All;
+import org.spongepowered.api.event.filter.cause.Before;
+import org.spongepowered.api.event.filter.cause.ContextValue;
+import org.spongepowered.api.event.filter.cause.First;
+import org.spongepowered.api.event.filter.cause.Last;
+import org.spongepowered.api.event.filter.cause.Root;
+import org.spongepowered.api.event.filter.data.Has;
+import org.spongepowered.api.event.filter.data.Supports;
+import org.spongepowered.api.event.filter.type.Exclude;
+import org.spongepowered.api.event.filter.type.Include;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+
+/**
+ * Generates a {@link ListenerFilter} class for a listener method.
+ *
+ * <p>Only listeners whose filters can all be expressed as plain source are
+ * compiled, any other listener is skipped and left to be resolved by the
+ * implementation at runtime.</p>
+ */
+final class ListenerFilterGenerator {
+
+    private static final String FIRST = First.class.getName();
+    private static final String LAST = Last.class.getName();
+    private static final String ROOT = Root.class.getName();
+    private static final String BEFORE = Before.class.getName();
+    private static final String AFTER = After.class.getName();
+    private static final String ALL = All.class.getName();
+    private static final String CONTEXT_VALUE = ContextValue.class.getName();
+    private static final String GETTER = Getter.class.getName();
+    private static final String HAS = Has.class.getName();
+    private static final String SUPPORTS = Supports.class.getName();
+    private static final String IS_CANCELLED = IsCancelled.class.getName();
+    private static final String INCLUDE = Include.class.getName();
+    private static final String EXCLUDE = Exclude.class.getName();
+    private static final String FILTER_PACKAGE = "org.spongepowered.api.event.filter";
+
+    private final ProcessingEnvironment env;
+    private final Set<String> generated = new HashSet<>();
+    private final List<String> manifest = new ArrayList<>();
+    private final List<Element> originating = new ArrayList<>();
+
+    ListenerFilterGenerator(final ProcessingEnvironment env) {
+        this.env = env;
+    }
+
+    /**
+     * Generates the filter for the given listener method, if possible.
+     *
+     * @param method The listener method
+     * @param eventType The event type of the listener
+     */
+    void generate(final ExecutableElement method, final DeclaredType eventType) {
+        final TypeElement owner = (TypeElement) method.getEnclosingElement();
+        final @Nullable String body = this.body(method, eventType);
+        if (body == null) {
+            return;
+        }
+
+        final Elements elements = this.env.getElementUtils();
+        final String packageName = elements.getPackageOf(owner).getQualifiedName().toString();
+        final String ownerBinaryName = elements.getBinaryName(owner).toString();
+        final String baseName = (packageName.isEmpty() ? ownerBinaryName : ownerBinaryName.substring(packageName.length() + 1)).replace('$', '_')
+            + '_' + method.getSimpleName() + "_ListenerFilter";
+        String simpleName = baseName;
+        for (int i = 1; !this.generated.add(packageName + '.' + simpleName); i++) {
+            simpleName = baseName + i;
+        }
+        final String binaryName = packageName.isEmpty() ? simpleName : packageName + '.' + simpleName;
+        final String event = this.sourceName(eventType);
+
+        final StringBuilder source = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        source.append("@javax.annotation.processing.Generated(\"").append(ListenerProcessor.class.getName()).append("\")\n")
+            .append("@SuppressWarnings({\"unchecked\", \"rawtypes\"})\n")
+            .append("public final class ").append(simpleName)
+            .append(" implements ").append(ListenerFilter.class.getName()).append('<').append(event).append("> {\n\n")
+            .append("    @Override\n")
+            .append("    public Object[] filter(final ").append(event).append(" event) {\n")
+            .append(body)
+            .append("    }\n\n")
+            .append("}\n");
+
+        try {
+            final JavaFileObject file = this.env.getFiler().createSourceFile(binaryName, owner);
+            try (final Writer writer = file.openWriter()) {
+                writer.write(source.toString());
+            }
+        } catch (final IOException ex) {
+            this.env.getMessager().printMessage(Diagnostic.Kind.WARNING, "Could not generate a listener filter: " + ex.getMessage(), method);
+            return;
+        }
+        this.manifest.add(ownerBinaryName + '\t' + method.getSimpleName() + '\t' + this.descriptor(method) + '\t' + binaryName);
+        this.originating.add(owner);
+    }
+
+    /**
+     * Writes the manifest of all filters generated so far.
+     */
+    void writeManifest() {
+        if (this.manifest.isEmpty()) {
+            return;
+        }
+        Collections.sort(this.manifest);
+        try {
+            final FileObject file = this.env.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "",
+                ListenerFilter.MANIFEST, this.originating.toArray(new Element[0]));
+            try (final Writer writer = file.openWriter()) {
+                for (final String line : this.manifest) {
+                    writer.write(line);
+                    writer.write('\n');
+                }
+            }
+        } catch (final IOException ex) {
+            this.env.getMessager().printMessage(Diagnostic.Kind.WARNING, "Could not write the listener filter manifest: " + ex.getMessage());
+        }
+    }
+
+    private @Nullable String body(final ExecutableElement method, final DeclaredType eventType) {
+        final Types types = this.env.getTypeUtils();
+        if (!this.isAccessible(eventType, method)) {
+            return null;
+        }
+        final StringBuilder body = new StringBuilder();
+        final TypeElement cancellable = this.env.getElementUtils().getTypeElement("org.spongepowered.api.event.Cancellable");
+
+        String cancelled = "FALSE";
+        for (final AnnotationMirror annotation : method.getAnnotationMirrors()) {
+            final String name = this.name(annotation);
+            if (name.equals(ListenerFilterGenerator.IS_CANCELLED)) {
+                final @Nullable AnnotationValue value = this.value(annotation, "value");
+                cancelled = value == null ? "TRUE" : ((VariableElement) value.getValue()).getSimpleName().toString();
+            } else if (name.equals(ListenerFilterGenerator.INCLUDE) || name.equals(ListenerFilterGenerator.EXCLUDE)) {
+                final @Nullable String check = this.typeCheck("event", this.classes(annotation, "value"), false, method);
+                if (check == null) {
+                    return null;
+                }
+                body.append("        if (").append(name.equals(ListenerFilterGenerator.INCLUDE) ? "!" : "").append(check).append(") {\n")
+                    .append("            return null;\n")
+                    .append("        }\n");
+            }
+        }
+        if (cancellable != null && types.isAssignable(eventType, cancellable.asType()) && !cancelled.equals("UNDEFINED")) {
+            body.insert(0, "        if (" + (cancelled.equals("TRUE") ? "!" : "") + "((" + cancellable.getQualifiedName() + ") event).isCancelled()) {\n"
+                + "            return null;\n"
+                + "        }\n");
+        }
+
+        final List<? extends VariableElement> parameters = method.getParameters();
+        final StringBuilder args = new StringBuilder("event");
+        for (int i = 1; i < parameters.size(); i++) {
+            final VariableElement parameter = parameters.get(i);
+            final String arg = "arg" + i;
+            if (!this.parameter(body, parameter, arg, eventType, method)) {
+                return null;
+            }
+            args.append(", ").append(arg);
+        }
+        body.append("        return new Object[] {").append(args).append("};\n");
+        return body.toString();
+    }
+
+    private boolean parameter(final StringBuilder body, final VariableElement parameter, final String arg, final DeclaredType eventType,
+        final ExecutableElement method) {
+        final TypeMirror type = parameter.asType();
+        if (type.getKind() == TypeKind.TYPEVAR || type.getKind() == TypeKind.ERROR || !this.isAccessible(type, method)) {
+            return false;
+        }
+        final String typeName = this.sourceName(type);
+        @Nullable AnnotationMirror source = null;
+        final List<AnnotationMirror> filters = new ArrayList<>();
+        for (final AnnotationMirror annotation : parameter.getAnnotationMirrors()) {
+            final String name = this.name(annotation);
+            if (name.equals(ListenerFilterGenerator.HAS) || name.equals(ListenerFilterGenerator.SUPPORTS)) {
+                filters.add(annotation);
+            } else if (name.startsWith(ListenerFilterGenerator.FILTER_PACKAGE)) {
+                if (source != null) {
+                    return false;
+                }
+                source = annotation;
+            }
+        }
+        if (source == null) {
+            return false;
+        }
+
+        final String name = this.name(source);
+        final String value = "value" + arg.substring(3);
+        final boolean inverse = this.bool(source, "inverse", false);
+        final List<TypeMirror> typeFilter = this.classes(source, "typeFilter");
+        if (name.equals(ListenerFilterGenerator.FIRST) || name.equals(ListenerFilterGenerator.LAST)) {
+            if (type.getKind() != TypeKind.DECLARED) {
+                return false;
+            }
+            // the type filter applies to the first or last match only, it is checked below
+            final boolean first = name.equals(ListenerFilterGenerator.FIRST);
+            body.append("        Object ").append(value).append(" = null;\n")
+                .append("        {\n")
+                .append("            final java.util.List<Object> causes = event.cause().all();\n")
+                .append("            for (int i = ").append(first ? "0; i < causes.size(); i++" : "causes.size() - 1; i >= 0; i--").append(") {\n")
+                .append("                final Object candidate = causes.get(i);\n")
+                .append("                if (candidate instanceof ").append(typeName).append(") {\n")
+                .append("                    ").append(value).append(" = candidate;\n")
+                .append("                    break;\n")
+                .append("                }\n")
+                .append("            }\n")
+                .append("        }\n");
+        } else if (name.equals(ListenerFilterGenerator.ROOT)) {
+            body.append("        final Object ").append(value).append(" = event.cause().root();\n");
+        } else if (name.equals(ListenerFilterGenerator.BEFORE) || name.equals(ListenerFilterGenerator.AFTER)) {
+            final List<TypeMirror> target = this.classes(source, "value");
+            if (target.size() != 1 || !this.isAccessible(target.get(0), method)) {
+                return false;
+            }
+            final boolean before = name.equals(ListenerFilterGenerator.BEFORE);
+            body.append("        Object ").append(value).append(" = null;\n")
+                .append("        {\n")
+                .append("            final java.util.List<Object> causes = event.cause().all();\n")
+                .append("            for (int i = ").append(before ? "1; i < causes.size()" : "0; i < causes.size() - 1").append("; i++) {\n")
+                .append("                if (causes.get(i) instanceof ").append(this.sourceName(target.get(0))).append(") {\n")
+                .append("                    ").append(value).append(" = causes.get(i ").append(before ? "- 1" : "+ 1").append(");\n")
+                .append("                    break;\n")
+                .append("                }\n")
+                .append("            }\n")
+                .append("        }\n");
+        } else if (name.equals(ListenerFilterGenerator.ALL)) {
+            // data filters only apply to value containers, which an array is not
+            if (type.getKind() != TypeKind.ARRAY || ((ArrayType) type).getComponentType().getKind() != TypeKind.DECLARED
+                || !filters.isEmpty()) {
+                return false;
+            }
+            final String component = this.sourceName(((ArrayType) type).getComponentType());
+            body.append("        final java.util.List<").append(component).append("> all").append(arg.substring(3))
+                .append(" = event.cause().allOf(").append(component).append(".class);\n");
+            if (this.bool(source, "ignoreEmpty", true)) {
+                body.append("        if (all").append(arg.substring(3)).append(".isEmpty()) {\n")
+                    .append("            return null;\n")
+                    .append("        }\n");
+            }
+            body.append("        final ").append(typeName).append(' ').append(arg).append(" = all").append(arg.substring(3))
+                .append(".toArray(new ").append(component).append("[0]);\n");
+            return true;
+        } else if (name.equals(ListenerFilterGenerator.CONTEXT_VALUE)) {
+            final @Nullable AnnotationValue key = this.value(source, "value");
+            if (key == null) {
+                return false;
+            }
+            body.append("        final Object ").append(value).append(" = event.context().get(org.spongepowered.api.event.EventContextKeys.")
+                .append(key.getValue()).append(").orElse(null);\n");
+        } else if (name.equals(ListenerFilterGenerator.GETTER)) {
+            return this.getter(body, source, parameter, arg, eventType, filters, method);
+        } else {
+            return false;
+        }
+
+        if (type.getKind() != TypeKind.DECLARED) {
+            return false;
+        }
+        final @Nullable String check = this.typeCheck(value, typeFilter, inverse, method);
+        if (check == null) {
+            return false;
+        }
+        body.append("        if (!(").append(value).append(" instanceof ").append(typeName).append(')')
+            .append(typeFilter.isEmpty() ? "" : " || !" + check).append(") {\n")
+            .append("            return null;\n")
+            .append("        }\n")
+            .append("        final ").append(typeName).append(' ').append(arg).append(" = (").append(typeName).append(") ").append(value).append(";\n");
+        return this.dataFilters(body, filters, arg, method);
+    }
+
+    private boolean getter(final StringBuilder body, final AnnotationMirror source, final VariableElement parameter, final String arg,
+        final DeclaredType eventType, final List<AnnotationMirror> filters, final ExecutableElement method) {
+        final Types types = this.env.getTypeUtils();
+        final @Nullable AnnotationValue getterName = this.value(source, "value");
+        if (getterName == null) {
+            return false;
+        }
+        final @Nullable Element getter = this.env.getElementUtils().getAllMembers((TypeElement) eventType.asElement()).stream()
+            .filter(el -> el.getKind() == ElementKind.METHOD && el.getSimpleName().contentEquals((CharSequence) getterName.getValue()))
+            .filter(el -> ((ExecutableElement) el).getParameters().isEmpty())
+            .filter(el -> el.getModifiers().contains(Modifier.PUBLIC) && !el.getModifiers().contains(Modifier.STATIC))
+            .findFirst().orElse(null);
+        if (getter == null) {
+            return false;
+        }
+        final TypeMirror type = parameter.asType();
+        TypeMirror returnType = ((ExecutableType) types.asMemberOf(eventType, getter)).getReturnType();
+        final String value = "value" + arg.substring(3);
+        if (this.isOptional(returnType) && !this.isOptional(type)) {
+            final List<? extends TypeMirror> arguments = ((DeclaredType) returnType).getTypeArguments();
+            if (arguments.size() != 1) {
+                return false;
+            }
+            returnType = arguments.get(0);
+            body.append("        final Object ").append(value).append(" = event.").append(getterName.getValue()).append("().orElse(null);\n")
+                .append("        if (").append(value).append(" == null) {\n")
+                .append("            return null;\n")
+                .append("        }\n");
+        } else {
+            body.append("        final Object ").append(value).append(" = event.").append(getterName.getValue()).append("();\n");
+        }
+        if (type.getKind() == TypeKind.DECLARED && !types.isAssignable(types.erasure(returnType), types.erasure(type))) {
+            body.append("        if (!(").append(value).append(" instanceof ").append(this.sourceName(type)).append(")) {\n")
+                .append("            return null;\n")
+                .append("        }\n");
+        }
+        body.append("        final Object ").append(arg).append(" = ").append(value).append(";\n");
+        return this.dataFilters(body, filters, arg, method);
+    }
+
+    private boolean dataFilters(final StringBuilder body, final List<AnnotationMirror> filters, final String arg, final ExecutableElement method) {
+        for (final AnnotationMirror filter : filters) {
+            final @Nullable AnnotationValue key = this.value(filter, "value");
+            if (key == null) {
+                return false;
+            }
+            final List<TypeMirror> container = this.classes(filter, "container");
+            final String containerName = container.isEmpty() ? "org.spongepowered.api.data.Keys" : this.sourceName(container.get(0));
+            if (!container.isEmpty() && !this.isAccessible(container.get(0), method)) {
+                return false;
+            }
+            final String holder = "((org.spongepowered.api.data.value.ValueContainer) " + arg + ")";
+            final String check = this.name(filter).equals(ListenerFilterGenerator.HAS)
+                ? holder + ".get((org.spongepowered.api.data.Key) " + containerName + '.' + key.getValue() + ").isPresent()"
+                : holder + ".supports(" + containerName + '.' + key.getValue() + ")";
+            body.append("        if (").append(this.bool(filter, "inverse", false) ? "" : "!").append(check).append(") {\n")
+                .append("            return null;\n")
+                .append("        }\n");
+        }
+        return true;
+    }
+
+    private @Nullable String typeCheck(final String variable, final List<TypeMirror> classes, final boolean inverse, final ExecutableElement method) {
+        if (classes.isEmpty()) {
+            return "true";
+        }
+        final StringBuilder check = new StringBuilder(inverse ? "!(" : "(");
+        for (int i = 0; i < classes.size(); i++) {
+            if (!this.isAccessible(classes.get(i), method)) {
+                return null;
+            }
+            if (i > 0) {
+                check.append(" || ");
+            }
+            check.append(variable).append(" instanceof ").append(this.sourceName(classes.get(i)));
+        }
+        return check.append(')').toString();
+    }
+
+    private boolean isOptional(final TypeMirror mirror) {
+        return mirror.getKind() == TypeKind.DECLARED
+            && ((TypeElement) ((DeclaredType) mirror).asElement()).getQualifiedName().contentEquals("java.util.Optional");
+    }
+
+    // Whether the type can be referenced from a class generated in the package of the listener
+    private boolean isAccessible(final TypeMirror type, final ExecutableElement method) {
+        if (type.getKind() == TypeKind.ARRAY) {
+            return this.isAccessible(((ArrayType) type).getComponentType(), method);
+        }
+        if (type.getKind().isPrimitive()) {
+            return true;
+        }
+        if (type.getKind() != TypeKind.DECLARED) {
+            return false;
+        }
+        final PackageElement listenerPackage = this.env.getElementUtils().getPackageOf(method);
+        for (Element element = ((DeclaredType) type).asElement(); element instanceof TypeElement; element = element.getEnclosingElement()) {
+            final Set<Modifier> modifiers = element.getModifiers();
+            if (modifiers.contains(Modifier.PRIVATE)) {
+                return false;
+            }
+            if (!modifiers.contains(Modifier.PUBLIC) && !this.env.getElementUtils().getPackageOf(element).equals(listenerPackage)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private String sourceName(final TypeMirror type) {
+        final TypeMirror erased = this.env.getTypeUtils().erasure(type);
+        if (erased.getKind() == TypeKind.ARRAY) {
+            return this.sourceName(((ArrayType) erased).getComponentType()) + "[]";
+        }
+        if (erased.getKind() == TypeKind.DECLARED) {
+            return ((TypeElement) ((DeclaredType) erased).asElement()).getQualifiedName().toString();
+        }
+        return erased.toString();
+    }
+
+    private String descriptor(final ExecutableElement method) {
+        final StringBuilder descriptor = new StringBuilder("(");
+        for (final VariableElement parameter : method.getParameters()) {
+            this.descriptor(descriptor, this.env.getTypeUtils().erasure(parameter.asType()));
+        }
+        return descriptor.append(")V").toString();
+    }
+
+    private void descriptor(final StringBuilder descriptor, final TypeMirror type) {
+        switch (type.getKind()) {
+            case BOOLEAN:
+                descriptor.append('Z');
+                break;
+            case BYTE:
+                descriptor.append('B');
+                break;
+            case SHORT:
+                descriptor.append('S');
+                break;
+            case CHAR:
+                descriptor.append('C');
+                break;
+            case INT:
+                descriptor.append('I');
+                break;
+            case LONG:
+                descriptor.append('J');
+                break;
+            case FLOAT:
+                descriptor.append('F');
+                break;
+            case DOUBLE:
+                descriptor.append('D');
+                break;
+            case ARRAY:
+                descriptor.append('[');
+                this.descriptor(descriptor, ((ArrayType) type).getComponentType());
+                break;
+            default:
+                descriptor.append('L')
+                    .append(this.env.getElementUtils().getBinaryName((TypeElement) ((DeclaredType) type).asElement()).toString().replace('.', '/'))
+                    .append(';');
+        }
+    }
+
+    private String name(final AnnotationMirror annotation) {
+        return this.env.getElementUtils().getBinaryName((TypeElement) annotation.getAnnotationType().asElement()).toString();
+    }
+
+    private @Nullable AnnotationValue value(final AnnotationMirror annotation, final String name) {
+        for (final Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : annotation.getElementValues().entrySet()) {
+            if (entry.getKey().getSimpleName().contentEquals(name)) {
+                return entry.getValue();
+            }
+        }
+        return null;
+    }
+
+    private boolean bool(final AnnotationMirror annotation, final String name, final boolean def) {
+        final @Nullable AnnotationValue value = this.value(annotation, name);
+        return value == null ? def : (Boolean) value.getValue();
+    }
+
+    private List<TypeMirror> classes(final AnnotationMirror annotation, final String name) {
+        final @Nullable AnnotationValue value = this.value(annotation, name);
+        if (value == null) {
+            return Collections.emptyList();
+        }
+        final List<TypeMirror> classes = new ArrayList<>();
+        if (value.getValue() instanceof List) {
+            for (final Object element : (List<?>) value.getValue()) {
+                classes.add((TypeMirror) ((AnnotationValue) element).getValue());
+            }
+        } else {
+            classes.add((TypeMirror) value.getValue());
+        }
+        return classes;
+    }
+
+}
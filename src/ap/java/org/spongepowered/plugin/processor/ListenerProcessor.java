@@ -27,7 +27,10 @@
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.event.Event;
 import org.spongepowered.api.event.Listener;
+import org.spongepowered.api.event.filter.Getter;
 import org.spongepowered.api.event.filter.IsCancelled;
+import org.spongepowered.api.event.filter.cause.Root;
+import org.spongepowered.api.event.filter.data.Has;
 import org.spongepowered.api.event.filter.type.Exclude;
 import org.spongepowered.api.event.filter.type.Include;
 
@@ -66,6 +69,11 @@ public class ListenerProcessor extends AbstractProcessor {
     private static final String IS_CANCELLED_ANNOTATION = IsCancelled.class.getName();
     private static final String INCLUDE_ANNOTATION = Include.class.getName();
     private static final String EXCLUDE_ANNOTATION = Exclude.class.getName();
+    private static final String GETTER_ANNOTATION = Getter.class.getName();
+    private static final String DATA_FILTER_PACKAGE = Has.class.getPackage().getName() + '.';
+    private static final String CAUSE_FILTER_PACKAGE = Root.class.getPackage().getName() + '.';
+
+    private @Nullable ListenerFilterGenerator filterGenerator;
 
     @Override
     public Set<String> getSupportedAnnotationTypes() {
@@ -78,6 +86,13 @@ public Set<String> getSupportedAnnotationTypes() {
 
     @Override
     public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnv) {
+        if (this.filterGenerator == null) {
+            this.filterGenerator = new ListenerFilterGenerator(this.processingEnv);
+        }
+        if (roundEnv.processingOver()) {
+            this.filterGenerator.writeManifest();
+            return false;
+        }
         if (ProcessorUtils.contains(annotations, Listener.class)) {
             for (final Element e : roundEnv.getElementsAnnotatedWith(Listener.class)) {
                 if (e.getKind() != ElementKind.METHOD) {
@@ -108,6 +123,14 @@ public boolean process(final Set<? extends TypeElement> annotations, final Round
                 }
 
                 final Types types = this.processingEnv.getTypeUtils();
+                final boolean async = method.getAnnotation(Listener.class).async();
+                if (async && eventType != null) {
+                    final TypeElement cancellable =
+                        this.processingEnv.getElementUtils().getTypeElement("org.spongepowered.api.event.Cancellable");
+                    if (cancellable != null && types.isAssignable(eventType, cancellable.asType())) {
+                        this.error("A listener for a Cancellable event cannot be asynchronous", method);
+                    }
+                }
                 if (eventType != null) {
                     for (final AnnotationMirror annotation : method.getAnnotationMirrors()) {
                         final String name = this.processingEnv.getElementUtils()
@@ -146,6 +169,13 @@ public boolean process(final Set<? extends TypeElement> annotations, final Round
                 final ParameterContext ctx = new ParameterContext(this.processingEnv, eventType);
                 for (int i = 1; i < parameters.size(); ++i) {
                     this.checkParameter(ctx, parameters.get(i));
+                    if (async) {
+                        this.checkAsyncParameter(parameters.get(i));
+                    }
+                }
+
+                if (eventType != null && !method.getModifiers().contains(Modifier.STATIC)) {
+                    this.filterGenerator.generate(method, eventType);
                 }
             }
         }
@@ -171,6 +201,24 @@ private void checkParameter(final ParameterContext ctx, final VariableElement el
         }
     }
 
+    /**
+     * Check that a parameter of an asynchronous listener does not use a filter
+     * which has to be resolved against the synchronous state of the event.
+     *
+     * @param element element to check
+     */
+    private void checkAsyncParameter(final VariableElement element) {
+        for (final AnnotationMirror annotation : element.getAnnotationMirrors()) {
+            final String name = this.processingEnv.getElementUtils()
+                .getBinaryName((TypeElement) annotation.getAnnotationType().asElement()).toString();
+            if (name.equals(ListenerProcessor.GETTER_ANNOTATION) || name.startsWith(ListenerProcessor.CAUSE_FILTER_PACKAGE)
+                || name.startsWith(ListenerProcessor.DATA_FILTER_PACKAGE)) {
+                this.processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Asynchronous listeners cannot use filters that depend on synchronous event state", element, annotation);
+            }
+        }
+    }
+
     private boolean isTypeSubclass(final Element typedElement, final String subclass) {
         final Elements elements = this.processingEnv.getElementUtils();
         final Types types = this.processingEnv.getTypeUtils();
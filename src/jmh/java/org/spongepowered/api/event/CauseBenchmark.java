@@ -0,0 +1,100 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.event;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the common {@link Cause} operations performed while posting
+ * events. Run with {@code ./gradlew jmh -Pjmh.includes=CauseBenchmark}, the
+ * results can be compared against a previous revision by checking it out and
+ * running the same benchmark.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CauseBenchmark {
+
+    private Cause cause;
+    private Object additional;
+
+    @Setup
+    public void setUp() {
+        this.cause = Cause.of(EventContext.empty(), "root", 1, 2L, 3.0D, "leaf");
+        this.additional = new Object();
+    }
+
+    @Benchmark
+    public Cause withSingle() {
+        return this.cause.with(this.additional);
+    }
+
+    @Benchmark
+    public Cause withMany() {
+        return this.cause.with(this.additional, "extra", 4);
+    }
+
+    @Benchmark
+    public Cause ofMany() {
+        return Cause.of(EventContext.empty(), this.additional, "root", 1, 2L);
+    }
+
+    @Benchmark
+    public Optional<Integer> first() {
+        return this.cause.first(Integer.class);
+    }
+
+    @Benchmark
+    public Optional<String> last() {
+        return this.cause.last(String.class);
+    }
+
+    @Benchmark
+    public List<String> allOf() {
+        return this.cause.allOf(String.class);
+    }
+
+    @Benchmark
+    public List<Object> noneOf() {
+        return this.cause.noneOf(Number.class);
+    }
+
+}
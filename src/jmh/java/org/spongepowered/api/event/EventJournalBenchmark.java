@@ -0,0 +1,147 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.event;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+
+/**
+ * Replays a synthetic {@link EventJournal} through a minimal
+ * {@link EventManager} which only forwards posted events to a few
+ * listener-like consumers, such that the cost of rebuilding and inspecting
+ * causes can be compared between revisions without a running game. The
+ * journal is generated from a fixed seed over a fixed list of cause types,
+ * so every run replays the same events, and every cause slot is filled with
+ * its own object so that causes keep the shape of the journal. Recorded
+ * journals are not loaded and entries are not serialized, as both require
+ * the data formats and containers of a running game. Run with
+ * {@code ./gradlew jmh -Pjmh.includes=EventJournalBenchmark}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventJournalBenchmark {
+
+    private static final Map<String, IntFunction<Object>> CAUSES = Map.of(
+        String.class.getName(), slot -> new String("source"),
+        Integer.class.getName(), slot -> Integer.valueOf(1_000 + slot),
+        Long.class.getName(), slot -> Long.valueOf(1_000L + slot),
+        Double.class.getName(), slot -> Double.valueOf(slot),
+        Object.class.getName(), slot -> new Object()
+    );
+    private static final String[] TYPES = {
+        String.class.getName(),
+        Integer.class.getName(),
+        Long.class.getName(),
+        Double.class.getName(),
+        Object.class.getName()
+    };
+
+    @Param({"1024"})
+    private int events;
+
+    @Param({"42"})
+    private long seed;
+
+    private List<EventJournal.Entry> journal;
+    private Map<EventJournal.Entry, List<Object>> causes;
+    private EventManager eventManager;
+    private Blackhole blackhole;
+
+    @Setup
+    public void setUp(final Blackhole blackhole) {
+        this.blackhole = blackhole;
+        final SplittableRandom random = new SplittableRandom(this.seed);
+        this.journal = new ArrayList<>(this.events);
+        for (int i = 0; i < this.events; i++) {
+            final int length = 1 + random.nextInt(6);
+            final List<String> causeTypes = new ArrayList<>(length);
+            for (int j = 0; j < length; j++) {
+                causeTypes.add(EventJournalBenchmark.TYPES[random.nextInt(EventJournalBenchmark.TYPES.length)]);
+            }
+            this.journal.add(new EventJournal.Entry(Event.class.getName(), causeTypes, List.of(), i * 50_000L, 0L, false));
+        }
+        // Every slot gets its own instance, as Cause collapses consecutive identical objects
+        this.causes = new IdentityHashMap<>(this.events);
+        for (final EventJournal.Entry entry : this.journal) {
+            final List<String> causeTypes = entry.causeTypes();
+            final Object[] causes = new Object[causeTypes.size()];
+            for (int slot = 0; slot < causes.length; slot++) {
+                causes[slot] = EventJournalBenchmark.CAUSES.get(causeTypes.get(slot)).apply(slot);
+            }
+            this.causes.put(entry, Arrays.asList(causes));
+        }
+        this.eventManager = (EventManager) Proxy.newProxyInstance(EventManager.class.getClassLoader(),
+            new Class<?>[] {EventManager.class}, (proxy, method, args) -> {
+                if (!method.getName().equals("post")) {
+                    throw new UnsupportedOperationException(method.getName());
+                }
+                this.dispatch((Event) args[0]);
+                return false;
+            });
+    }
+
+    private void dispatch(final Event event) {
+        final Cause cause = event.cause();
+        this.blackhole.consume(cause.root());
+        this.blackhole.consume(cause.first(Integer.class));
+        this.blackhole.consume(cause.last(String.class));
+        this.blackhole.consume(cause.allOf(Number.class));
+    }
+
+    private Event create(final EventJournal.Entry entry) {
+        final Cause cause = Cause.of(EventContext.empty(), this.causes.get(entry));
+        return () -> cause;
+    }
+
+    @Benchmark
+    public int replay() {
+        return EventJournal.replay(this.journal, this::create, this.eventManager);
+    }
+
+}
@@ -0,0 +1,310 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.block.transaction;
+
+import org.spongepowered.api.block.BlockState;
+import org.spongepowered.api.block.BlockType;
+import org.spongepowered.api.util.AABB;
+import org.spongepowered.api.world.schematic.Palette;
+
+import java.util.BitSet;
+import java.util.Objects;
+import java.util.function.LongPredicate;
+import java.util.function.Predicate;
+
+/**
+ * A columnar, lazily decoded view of a large amount of block changes, as
+ * performed by bulk operations such as schematic pastes or explosions.
+ *
+ * <p>Rather than one {@link BlockTransaction} per block, each change is
+ * stored as a {@link #position(int) packed position} along with the
+ * {@link #palette() palette} ids of its original and replacement states, so
+ * that listeners can inspect and invalidate changes without a
+ * {@link org.spongepowered.api.block.BlockSnapshot} ever being created.
+ * Individual changes can still be materialized through
+ * {@link #transaction(int)}.</p>
+ *
+ * <p>Positions are packed with 26 bits for the {@code x} and {@code z}
+ * coordinates and 12 bits for the {@code y} coordinate, see
+ * {@link #pack(int, int, int)}.</p>
+ */
+public interface BlockChangeBatch {
+
+    /**
+     * Packs the given block coordinates into a single {@code long}.
+     *
+     * @param x The x coordinate
+     * @param y The y coordinate
+     * @param z The z coordinate
+     * @return The packed position
+     */
+    static long pack(final int x, final int y, final int z) {
+        return ((x & 0x3FFFFFFL) << 38) | ((z & 0x3FFFFFFL) << 12) | (y & 0xFFFL);
+    }
+
+    /**
+     * Gets the x coordinate of the given packed position.
+     *
+     * @param packed The packed position
+     * @return The x coordinate
+     */
+    static int unpackX(final long packed) {
+        return (int) (packed >> 38);
+    }
+
+    /**
+     * Gets the y coordinate of the given packed position.
+     *
+     * @param packed The packed position
+     * @return The y coordinate
+     */
+    static int unpackY(final long packed) {
+        return (int) (packed << 52 >> 52);
+    }
+
+    /**
+     * Gets the z coordinate of the given packed position.
+     *
+     * @param packed The packed position
+     * @return The z coordinate
+     */
+    static int unpackZ(final long packed) {
+        return (int) (packed << 26 >> 38);
+    }
+
+    /**
+     * Gets the amount of changes in this batch.
+     *
+     * @return The amount of changes
+     */
+    int size();
+
+    /**
+     * Gets the packed position of the change at the given index.
+     *
+     * @param index The index of the change
+     * @return The packed position
+     * @see #pack(int, int, int)
+     */
+    long position(int index);
+
+    /**
+     * Gets the palette the ids of this batch refer to.
+     *
+     * @return The palette
+     */
+    Palette<BlockState, BlockType> palette();
+
+    /**
+     * Gets the {@link BlockState} with the given id in the
+     * {@link #palette() palette} of this batch.
+     *
+     * @param paletteId The palette id
+     * @return The block state
+     * @throws IllegalArgumentException If the id is not part of the palette
+     */
+    BlockState state(int paletteId);
+
+    /**
+     * Gets the palette id of the original state of the change at the given
+     * index.
+     *
+     * @param index The index of the change
+     * @return The palette id of the original state
+     */
+    int originalId(int index);
+
+    /**
+     * Gets the palette id of the replacement state of the change at the given
+     * index.
+     *
+     * @param index The index of the change
+     * @return The palette id of the replacement state
+     */
+    int replacementId(int index);
+
+    /**
+     * Gets the original state of the change at the given index.
+     *
+     * @param index The index of the change
+     * @return The original state
+     */
+    default BlockState original(final int index) {
+        return this.state(this.originalId(index));
+    }
+
+    /**
+     * Gets the replacement state of the change at the given index.
+     *
+     * @param index The index of the change
+     * @return The replacement state
+     */
+    default BlockState replacement(final int index) {
+        return this.state(this.replacementId(index));
+    }
+
+    /**
+     * Gets the {@link Operation} performed by the change at the given index.
+     *
+     * @param index The index of the change
+     * @return The operation
+     */
+    Operation operation(int index);
+
+    /**
+     * Gets whether the change at the given index is valid, invalid changes
+     * will not be applied.
+     *
+     * @param index The index of the change
+     * @return Whether the change is valid
+     */
+    boolean isValid(int index);
+
+    /**
+     * Sets whether the change at the given index is valid.
+     *
+     * @param index The index of the change
+     * @param valid Whether the change is valid
+     */
+    void setValid(int index, boolean valid);
+
+    /**
+     * Materializes the change at the given index as a {@link BlockTransaction}.
+     *
+     * <p>This is comparatively expensive, and changes to the validity of the
+     * returned transaction are not reflected by this batch. Prefer the
+     * accessors of this batch whenever possible.</p>
+     *
+     * @param index The index of the change
+     * @return The transaction
+     */
+    BlockTransaction transaction(int index);
+
+    /**
+     * Marks all changes of this batch as invalid.
+     *
+     * @return The amount of changes that were invalidated
+     */
+    default int invalidateAll() {
+        return this.invalidate(position -> true);
+    }
+
+    /**
+     * Marks all changes whose {@link #position(int) packed position} matches
+     * the given predicate as invalid.
+     *
+     * @param predicate The predicate, receiving packed positions
+     * @return The amount of changes that were invalidated
+     */
+    default int invalidate(final LongPredicate predicate) {
+        Objects.requireNonNull(predicate, "predicate");
+        int invalidated = 0;
+        for (int i = 0, size = this.size(); i < size; i++) {
+            if (this.isValid(i) && predicate.test(this.position(i))) {
+                this.setValid(i, false);
+                invalidated++;
+            }
+        }
+        return invalidated;
+    }
+
+    /**
+     * Marks all changes of blocks whose center lies within the given
+     * {@link AABB} as invalid.
+     *
+     * @param area The area
+     * @return The amount of changes that were invalidated
+     */
+    default int invalidate(final AABB area) {
+        Objects.requireNonNull(area, "area");
+        return this.invalidate(position -> area.contains(
+            BlockChangeBatch.unpackX(position) + 0.5, BlockChangeBatch.unpackY(position) + 0.5, BlockChangeBatch.unpackZ(position) + 0.5));
+    }
+
+    /**
+     * Marks all changes whose original state matches the given predicate as
+     * invalid.
+     *
+     * <p>The predicate is only tested once per {@link #palette() palette}
+     * entry, not once per change.</p>
+     *
+     * @param predicate The predicate
+     * @return The amount of changes that were invalidated
+     */
+    default int invalidateOriginals(final Predicate<? super BlockState> predicate) {
+        return this.invalidateByState(predicate, true);
+    }
+
+    /**
+     * Marks all changes whose replacement state matches the given predicate
+     * as invalid.
+     *
+     * <p>The predicate is only tested once per {@link #palette() palette}
+     * entry, not once per change.</p>
+     *
+     * @param predicate The predicate
+     * @return The amount of changes that were invalidated
+     */
+    default int invalidateReplacements(final Predicate<? super BlockState> predicate) {
+        return this.invalidateByState(predicate, false);
+    }
+
+    /**
+     * Marks all changes that would place a block of the given
+     * {@link BlockType} as invalid.
+     *
+     * @param type The block type
+     * @return The amount of changes that were invalidated
+     */
+    default int invalidateReplacements(final BlockType type) {
+        Objects.requireNonNull(type, "type");
+        return this.invalidateByState(state -> state.type().equals(type), false);
+    }
+
+    private int invalidateByState(final Predicate<? super BlockState> predicate, final boolean original) {
+        Objects.requireNonNull(predicate, "predicate");
+        final BitSet tested = new BitSet();
+        final BitSet matches = new BitSet();
+        int invalidated = 0;
+        for (int i = 0, size = this.size(); i < size; i++) {
+            if (!this.isValid(i)) {
+                continue;
+            }
+            final int id = original ? this.originalId(i) : this.replacementId(i);
+            if (!tested.get(id)) {
+                tested.set(id);
+                if (predicate.test(this.state(id))) {
+                    matches.set(id);
+                }
+            }
+            if (matches.get(id)) {
+                this.setValid(i, false);
+                invalidated++;
+            }
+        }
+        return invalidated;
+    }
+
+}
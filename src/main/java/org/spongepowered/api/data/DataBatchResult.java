@@ -0,0 +1,238 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.StringJoiner;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+/**
+ * The result of a bulk operation of the {@link DataManager}, such as
+ * {@link DataManager#deserializeAll(Class, java.util.stream.Stream, Executor)},
+ * holding one {@link Item} per input in input order. Failures of single
+ * items are reported here rather than failing the whole operation.
+ *
+ * @param <T> The type of the produced values
+ */
+public final class DataBatchResult<T> {
+
+    /**
+     * Creates a result from the given items, which must be in input order.
+     *
+     * @param items The items
+     * @param <T> The type of the produced values
+     * @return The result
+     */
+    public static <T> DataBatchResult<T> of(final List<Item<T>> items) {
+        return new DataBatchResult<>(List.copyOf(items));
+    }
+
+    /**
+     * Applies the given function to every input on the given executor,
+     * splitting the inputs into ordered chunks which are only processed
+     * concurrently if {@code parallel} is set.
+     */
+    static <I, T> CompletableFuture<DataBatchResult<T>> compute(final List<I> inputs, final Function<? super I, Optional<T>> function,
+        final boolean parallel, final Executor executor) {
+        Objects.requireNonNull(executor, "executor");
+        final int size = inputs.size();
+        final int chunks = parallel ? Math.max(1, Math.min(size, Runtime.getRuntime().availableProcessors() * 4)) : 1;
+        @SuppressWarnings("unchecked")
+        final Item<T>[] items = new Item[size];
+        final CompletableFuture<?>[] futures = new CompletableFuture<?>[chunks];
+        for (int chunk = 0; chunk < chunks; chunk++) {
+            final int start = (int) ((long) size * chunk / chunks);
+            final int end = (int) ((long) size * (chunk + 1) / chunks);
+            futures[chunk] = CompletableFuture.runAsync(() -> {
+                for (int index = start; index < end; index++) {
+                    Item<T> item;
+                    try {
+                        item = Item.success(index, function.apply(inputs.get(index)).orElse(null));
+                    } catch (final Exception e) {
+                        item = Item.failure(index, e);
+                    }
+                    items[index] = item;
+                }
+            }, executor);
+        }
+        return CompletableFuture.allOf(futures).thenApply(ignored -> new DataBatchResult<>(Collections.unmodifiableList(Arrays.asList(items))));
+    }
+
+    private final List<Item<T>> items;
+
+    private DataBatchResult(final List<Item<T>> items) {
+        this.items = items;
+    }
+
+    /**
+     * Gets the items of this result, in input order.
+     *
+     * @return The items
+     */
+    public List<Item<T>> items() {
+        return this.items;
+    }
+
+    /**
+     * Gets the values of all successful items that produced a value, in
+     * input order.
+     *
+     * @return The values
+     */
+    public List<T> values() {
+        final List<T> values = new ArrayList<>(this.items.size());
+        for (final Item<T> item : this.items) {
+            if (item.value != null) {
+                values.add(item.value);
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Gets all failed items, in input order.
+     *
+     * @return The failed items
+     */
+    public List<Item<T>> failures() {
+        final List<Item<T>> failures = new ArrayList<>();
+        for (final Item<T> item : this.items) {
+            if (item.failure != null) {
+                failures.add(item);
+            }
+        }
+        return failures;
+    }
+
+    /**
+     * Gets whether any item failed.
+     *
+     * @return True if any item failed
+     */
+    public boolean hasFailures() {
+        for (final Item<T> item : this.items) {
+            if (item.failure != null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return new StringJoiner(", ", DataBatchResult.class.getSimpleName() + "[", "]")
+            .add("items=" + this.items)
+            .toString();
+    }
+
+    /**
+     * The outcome of a single input of a bulk operation.
+     *
+     * @param <T> The type of the produced value
+     */
+    public static final class Item<T> {
+
+        /**
+         * Creates a successful item.
+         *
+         * @param index The index of the input
+         * @param value The produced value, or null if none was produced
+         * @param <T> The type of the produced value
+         * @return The item
+         */
+        public static <T> Item<T> success(final int index, final @Nullable T value) {
+            return new Item<>(index, value, null);
+        }
+
+        /**
+         * Creates a failed item.
+         *
+         * @param index The index of the input
+         * @param failure The reason of the failure
+         * @param <T> The type of the produced value
+         * @return The item
+         */
+        public static <T> Item<T> failure(final int index, final Exception failure) {
+            return new Item<>(index, null, Objects.requireNonNull(failure, "failure"));
+        }
+
+        private final int index;
+        private final @Nullable T value;
+        private final @Nullable Exception failure;
+
+        private Item(final int index, final @Nullable T value, final @Nullable Exception failure) {
+            this.index = index;
+            this.value = value;
+            this.failure = failure;
+        }
+
+        /**
+         * Gets the index of the input this item belongs to.
+         *
+         * @return The index
+         */
+        public int index() {
+            return this.index;
+        }
+
+        /**
+         * Gets the produced value. This is empty if the item failed, or if
+         * no value could be produced from the input.
+         *
+         * @return The value, if available
+         */
+        public Optional<T> value() {
+            return Optional.ofNullable(this.value);
+        }
+
+        /**
+         * Gets the reason this item failed, if it did.
+         *
+         * @return The failure, if failed
+         */
+        public Optional<Exception> failure() {
+            return Optional.ofNullable(this.failure);
+        }
+
+        @Override
+        public String toString() {
+            return new StringJoiner(", ", Item.class.getSimpleName() + "[", "]")
+                .add("index=" + this.index)
+                .add("value=" + this.value)
+                .add("failure=" + this.failure)
+                .toString();
+        }
+    }
+
+}
@@ -104,6 +104,24 @@ default <E> DataTransactionResult transform(Supplier<? extends Key<? extends Val
          */
         <E> DataTransactionResult offer(Key<? extends Value<E>> key, E value);
 
+        /**
+         * Offers the given {@code value} as defined by the provided {@link Key},
+         * as by {@link #offer(Key, Object)}, but only reports the
+         * {@link DataTransactionResult.Type type} of the outcome.
+         *
+         * <p>This is intended for callers which discard the result, such as
+         * updating values every tick, as implementations need not capture
+         * the successful and replaced values.</p>
+         *
+         * @param key The key to the value to set
+         * @param value The value to set
+         * @param <E> The type of value
+         * @return The type of the transaction result
+         */
+        default <E> DataTransactionResult.Type offerFast(final Key<? extends Value<E>> key, final E value) {
+            return this.offer(key, value).type();
+        }
+
         /**
          * Offers the given {@code value} as defined by the provided {@link Key}
          * such that a {@link DataTransactionResult} is returned for any
@@ -282,6 +300,19 @@ default DataTransactionResult remove(Value<?> value) {
          */
         DataTransactionResult remove(Key<?> key);
 
+        /**
+         * Attempts to remove the data associated with the provided {@link Key},
+         * as by {@link #remove(Key)}, but only reports the
+         * {@link DataTransactionResult.Type type} of the outcome.
+         *
+         * @param key The key of the data
+         * @return The type of the transaction result
+         * @see #offerFast(Key, Object)
+         */
+        default DataTransactionResult.Type removeFast(final Key<?> key) {
+            return this.remove(key).type();
+        }
+
         /**
          * Attempts to remove the data associated with the provided {@link Key}.
          * All values that were successfully removed will be provided in
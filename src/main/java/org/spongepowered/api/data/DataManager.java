@@ -30,9 +30,19 @@
 import org.spongepowered.api.data.persistence.DataContentUpdater;
 import org.spongepowered.api.data.persistence.DataSerializable;
 import org.spongepowered.api.data.persistence.DataTranslator;
+import org.spongepowered.api.data.persistence.DataUpdatePipeline;
 import org.spongepowered.api.data.persistence.DataView;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * A manager of the overall Data API. This handles the registration of
@@ -64,6 +74,10 @@ public interface DataManager {
      * {@link DataSerializable} such that any versioned data may be updated to
      * newer versions for the most up to date {@link DataBuilder}.
      *
+     * <p>Registering an updater invalidates the cached
+     * {@link #updatePipeline(Class, int, int) update pipelines} of the
+     * class.</p>
+     *
      * @param clazz The data serializable class
      * @param updater The updater
      * @param <T> The type of DataSerializable
@@ -83,7 +97,28 @@ public interface DataManager {
      * @param <T> The type of data serializable
      * @return The content updater, if available
      */
-    <T extends DataSerializable> Optional<DataContentUpdater> wrappedContentUpdater(Class<T> clazz, int fromVersion, int toVersion);
+    default <T extends DataSerializable> Optional<DataContentUpdater> wrappedContentUpdater(final Class<T> clazz, final int fromVersion,
+        final int toVersion) {
+        return this.updatePipeline(clazz, fromVersion, toVersion).map(pipeline -> pipeline);
+    }
+
+    /**
+     * Gets the {@link DataUpdatePipeline} that translates versioned data of
+     * the given class from the desired {@code fromVersion} to the
+     * {@code toVersion}. If a {@link DataContentUpdater} has not been
+     * registered to cover the complete jump, {@link Optional#empty()} is
+     * returned.
+     *
+     * <p>Pipelines are computed once per class and version pair and cached
+     * until another updater is registered for the class.</p>
+     *
+     * @param clazz The data serializable class
+     * @param fromVersion The version converting from
+     * @param toVersion The version converting to
+     * @param <T> The type of data serializable
+     * @return The update pipeline, if available
+     */
+    <T extends DataSerializable> Optional<DataUpdatePipeline> updatePipeline(Class<T> clazz, int fromVersion, int toVersion);
 
     /**
      * Attempts to retrieve the {@link DataBuilder} for the desired
@@ -112,6 +147,68 @@ public interface DataManager {
      */
     <T extends DataSerializable> Optional<T> deserialize(Class<T> clazz, DataView dataView);
 
+    /**
+     * Deserializes every {@link DataView} of the given stream as by
+     * {@link #deserialize(Class, DataView)}, on the given executor.
+     *
+     * <p>The views are processed concurrently if the {@link DataBuilder} of
+     * the class {@link DataBuilder#isThreadSafe() is thread-safe}, and
+     * sequentially otherwise. Either way, the items of the result are in
+     * the order of the stream, and failures to deserialize single views are
+     * reported by their item rather than failing the returned future.</p>
+     *
+     * @param clazz The class of the data serializable
+     * @param dataViews The data views containing raw data
+     * @param executor The executor to deserialize on
+     * @param <T> The type of data serializable
+     * @return The result, once all views are deserialized
+     */
+    default <T extends DataSerializable> CompletableFuture<DataBatchResult<T>> deserializeAll(final Class<T> clazz,
+        final Stream<? extends DataView> dataViews, final Executor executor) {
+        Objects.requireNonNull(clazz, "clazz");
+        final List<? extends DataView> views = dataViews.collect(Collectors.toList());
+        final boolean parallel = this.builder(clazz).map(DataBuilder::isThreadSafe).orElse(false);
+        return DataBatchResult.compute(views, view -> this.deserialize(clazz, view), parallel, executor);
+    }
+
+    /**
+     * Serializes every {@link DataSerializable} of the given stream to a
+     * {@link DataContainer}, concurrently on the given executor. The objects
+     * must therefore be safe to serialize from other threads.
+     *
+     * <p>The items of the result are in the order of the stream, and
+     * failures to serialize single objects are reported by their item rather
+     * than failing the returned future.</p>
+     *
+     * @param serializables The objects to serialize
+     * @param executor The executor to serialize on
+     * @return The result, once all objects are serialized
+     */
+    default CompletableFuture<DataBatchResult<DataContainer>> serializeAll(final Stream<? extends DataSerializable> serializables,
+        final Executor executor) {
+        final List<? extends DataSerializable> objects = serializables.collect(Collectors.toList());
+        return DataBatchResult.compute(objects, object -> Optional.of(object.toContainer()), true, executor);
+    }
+
+    /**
+     * Reads the values of the given {@link Key}s from every given
+     * {@link DataHolder}, without blocking the calling thread.
+     *
+     * <p>Values whose {@link DataProvider} reports that it
+     * {@link DataProvider#allowsAsynchronousAccess(DataHolder) allows asynchronous access}
+     * for a holder are read on the given executor. All remaining values are
+     * read on the main thread, in a single task scheduled for the next tick
+     * regardless of how many holders and keys need it. Keys which a holder
+     * does not support are absent from its manipulator.</p>
+     *
+     * @param dataHolders The data holders to read from
+     * @param keys The keys to read
+     * @param executor The executor to read asynchronously accessible values on
+     * @return The values read per data holder, once all values are read
+     */
+    CompletableFuture<Map<DataHolder, DataManipulator.Immutable>> readAsync(Collection<? extends DataHolder> dataHolders, Set<Key<?>> keys,
+        Executor executor);
+
     /**
      * Registers the given {@link org.spongepowered.api.data.DataHolder.Immutable} class with it's
      * associated {@link org.spongepowered.api.data.DataHolderBuilder.Immutable}. The builder can be used to
@@ -51,6 +51,13 @@
  * and deserialized from persistence, and applied to {@link DataHolder}s, even
  * with specialized {@link Function}s to use {@link Mutable#transform(Key, Function)}
  * such that the {@link DataManipulator} is always returned.</p>
+ *
+ * <p>The manipulators created by {@link #mutableOf()}, {@link #immutableOf()}
+ * and their overloads store their values in arrays indexed by
+ * {@link Key#ordinal()}, tracking the present keys in a bit set. Copying
+ * between such manipulators, including through
+ * {@link Mutable#copyFrom(ValueContainer, MergeFunction, Predicate)},
+ * merges the bit sets rather than looking up every key.</p>
  */
 public interface DataManipulator extends CopyableValueContainer {
 
@@ -323,6 +330,9 @@ default Mutable copyFrom(final ValueContainer valueContainer, final Predicate<Ke
          * take priority and be overwritten from the pre-existing data from the
          * {@link ValueContainer}.
          *
+         * <p>The predicate is tested at most once per key of the given
+         * {@link ValueContainer}.</p>
+         *
          * @param valueContainer The {@link ValueContainer} to copy data from
          * @param overlap The overlap resolver to decide which value to retain
          * @param predicate The predicate to filter which keys can be copied
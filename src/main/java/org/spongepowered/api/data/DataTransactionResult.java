@@ -108,6 +108,26 @@ public static DataTransactionResult successNoData() {
         return DataTransactionResult.SUCCESS_NODATA;
     }
 
+    /**
+     * Creates a new successful {@link DataTransactionResult} whose
+     * "successful" and "replaced" {@link Value.Immutable}s are only computed
+     * when first requested through {@link #successfulData()} or
+     * {@link #replacedData()}, such that results which are discarded never
+     * build them.
+     *
+     * <p>The suppliers are called at most once each, but possibly from
+     * whichever thread first requests the data, and must therefore capture
+     * the values to report rather than read live state.</p>
+     *
+     * @param successful The supplier of the successfully offered values
+     * @param replaced The supplier of the replaced values
+     * @return The new data transaction result
+     */
+    public static DataTransactionResult lazySuccess(final Supplier<? extends Collection<? extends Value.Immutable<?>>> successful,
+        final Supplier<? extends Collection<? extends Value.Immutable<?>>> replaced) {
+        return new DataTransactionResult(successful, replaced);
+    }
+
     /**
      * Creates a new {@link DataTransactionResult} with the provided
      * {@link Value.Immutable} being the successful addition. The result type is
@@ -282,6 +302,8 @@ public enum Type {
     private final List<Value.Immutable<?>> rejected;
     private final List<Value.Immutable<?>> replaced;
     private final List<Value.Immutable<?>> success;
+    private final @Nullable LazyData lazyReplacedData;
+    private final @Nullable LazyData lazySuccessData;
 
     DataTransactionResult(final Builder builder) {
         this.type = builder.resultType;
@@ -300,6 +322,18 @@ public enum Type {
         } else {
             this.success = List.of();
         }
+        this.lazyReplacedData = null;
+        this.lazySuccessData = null;
+    }
+
+    private DataTransactionResult(final Supplier<? extends Collection<? extends Value.Immutable<?>>> successful,
+        final Supplier<? extends Collection<? extends Value.Immutable<?>>> replaced) {
+        this.type = Type.SUCCESS;
+        this.rejected = List.of();
+        this.replaced = List.of();
+        this.success = List.of();
+        this.lazyReplacedData = new LazyData(Objects.requireNonNull(replaced, "replaced"));
+        this.lazySuccessData = new LazyData(Objects.requireNonNull(successful, "successful"));
     }
 
 
@@ -328,7 +362,8 @@ public boolean isSuccessful() {
      * @return An immutable list of the values successfully offered
      */
     public List<Value.Immutable<?>> successfulData() {
-        return this.success;
+        final @Nullable LazyData lazy = this.lazySuccessData;
+        return lazy == null ? this.success : lazy.get();
     }
 
     /**
@@ -385,7 +420,8 @@ public <T, V extends Value<T>> Optional<Value.Immutable<T>> rejectedValue(final
      * @return Any data that was replaced
      */
     public List<Value.Immutable<?>> replacedData() {
-        return this.replaced;
+        final @Nullable LazyData lazy = this.lazyReplacedData;
+        return lazy == null ? this.replaced : lazy.get();
     }
 
     /**
@@ -415,7 +451,7 @@ public <T, V extends Value<T>> Optional<Value.Immutable<T>> replacedValue(final
      */
     public void ifSuccessful(final Consumer<List<Value.Immutable<?>>> consumer) {
         if (this.isSuccessful()) {
-            consumer.accept(this.success);
+            consumer.accept(this.successfulData());
         }
     }
 
@@ -439,8 +475,8 @@ public String toString() {
         return new StringJoiner(", ", DataTransactionResult.class.getSimpleName() + "[", "]")
             .add("type=" + this.type)
             .add("rejected=" + this.rejected)
-            .add("replaced=" + this.replaced)
-            .add("success=" + this.success)
+            .add("replaced=" + this.replacedData())
+            .add("success=" + this.successfulData())
             .toString();
     }
 
@@ -455,13 +491,43 @@ public boolean equals(final @Nullable Object o) {
         final DataTransactionResult that = (DataTransactionResult) o;
         return this.type == that.type
             && Objects.equals(this.rejected, that.rejected)
-            && Objects.equals(this.replaced, that.replaced)
-            && Objects.equals(this.success, that.success);
+            && Objects.equals(this.replacedData(), that.replacedData())
+            && Objects.equals(this.successfulData(), that.successfulData());
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(this.type, this.rejected, this.replaced, this.success);
+        return Objects.hash(this.type, this.rejected, this.replacedData(), this.successfulData());
+    }
+
+    /**
+     * Values of a {@link #lazySuccess(Supplier, Supplier) lazy result},
+     * computed by the first caller and safely published to the others.
+     */
+    private static final class LazyData {
+
+        private @Nullable Supplier<? extends Collection<? extends Value.Immutable<?>>> supplier;
+        private volatile @MonotonicNonNull List<Value.Immutable<?>> values;
+
+        LazyData(final Supplier<? extends Collection<? extends Value.Immutable<?>>> supplier) {
+            this.supplier = supplier;
+        }
+
+        List<Value.Immutable<?>> get() {
+            @Nullable List<Value.Immutable<?>> values = this.values;
+            if (values == null) {
+                synchronized (this) {
+                    values = this.values;
+                    if (values == null) {
+                        values = List.copyOf(Objects.requireNonNull(this.supplier).get());
+                        this.values = values;
+                        this.supplier = null;
+                    }
+                }
+            }
+            return values;
+        }
+
     }
 
     /**
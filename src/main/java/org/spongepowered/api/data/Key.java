@@ -171,6 +171,17 @@ static <K, V> Key<MapValue<K, V>> fromMap(final ResourceKey resourceKey, final C
      */
     BiPredicate<?, ?> elementIncludesTester();
 
+    /**
+     * Gets the ordinal of this key, a small, dense and unique integer handed
+     * out by the implementation when the key is created, whether or not it
+     * is ever registered. {@link DataManipulator}s use it to store their
+     * values in arrays. An ordinal never changes for a key, but must not be
+     * persisted as it is only stable for the lifetime of the game.
+     *
+     * @return The ordinal
+     */
+    int ordinal();
+
     /**
      * Register an event listener which listens to the value the key accesses
      * changing.
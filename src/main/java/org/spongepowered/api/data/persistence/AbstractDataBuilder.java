@@ -68,7 +68,7 @@ public final Optional<T> build(DataView container) throws InvalidDataException {
         if (container.contains(Queries.CONTENT_VERSION)) {
             final int contentVersion = container.getInt(Queries.CONTENT_VERSION).get();
             if (contentVersion < this.supportedVersion) {
-                final Optional<DataContentUpdater> updater = Sponge.dataManager().wrappedContentUpdater(this.requiredClass, contentVersion,
+                final Optional<DataUpdatePipeline> updater = Sponge.dataManager().updatePipeline(this.requiredClass, contentVersion,
                         this.supportedVersion);
                 if (!updater.isPresent()) {
                     throw new InvalidDataException("Could not get an updater for " + this.requiredClass.getName()
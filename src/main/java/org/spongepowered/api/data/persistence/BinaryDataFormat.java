@@ -0,0 +1,96 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data.persistence;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Represents a {@link DataFormat} with a binary representation that can be
+ * read in place, such as NBT.
+ *
+ * <p>Views returned by {@link #view(ByteBuffer)} decode entries lazily when
+ * they are queried rather than up front, which makes scanning many
+ * documents for a few entries bound by I/O instead of allocation. They
+ * otherwise behave like a container created by
+ * {@link DataContainer#createNew()}: modifying them copies the affected data
+ * and never writes to the underlying buffer.</p>
+ */
+public interface BinaryDataFormat extends DataFormat {
+
+    /**
+     * Creates a {@link DataContainer} reading the uncompressed document in
+     * the given buffer in place, starting at its current position.
+     *
+     * <p>The buffer must not be modified while the container is in use. Its
+     * position and limit are left untouched.</p>
+     *
+     * @param buffer The buffer
+     * @return A data container backed by the buffer
+     * @throws InvalidDataFormatException If the buffer does not start with a
+     *         supported document
+     */
+    DataContainer view(ByteBuffer buffer) throws InvalidDataFormatException;
+
+    /**
+     * Memory maps the file at the given path and creates a
+     * {@link DataContainer} reading it in place, as by
+     * {@link #view(ByteBuffer)}.
+     *
+     * <p>Gzip compressed files, recognized by their magic number, cannot be
+     * read in place and are decompressed into memory instead, in which case
+     * this is not cheaper than {@link #readFrom(java.io.InputStream)}.</p>
+     *
+     * @param path The path of the file
+     * @return A data container backed by the file
+     * @throws InvalidDataFormatException If the file does not contain a
+     *         supported document
+     * @throws IOException If there was an error mapping the file
+     */
+    default DataContainer map(final Path path) throws InvalidDataFormatException, IOException {
+        final ByteBuffer mapped;
+        try (final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            // The mapping stays valid after the channel is closed
+            mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        if (mapped.remaining() >= 2
+            && (mapped.get(0) & 0xFF) == (GZIPInputStream.GZIP_MAGIC & 0xFF)
+            && (mapped.get(1) & 0xFF) == (GZIPInputStream.GZIP_MAGIC >>> 8)) {
+            final byte[] decompressed;
+            try (final InputStream in = new GZIPInputStream(Files.newInputStream(path))) {
+                decompressed = in.readAllBytes();
+            }
+            return this.view(ByteBuffer.wrap(decompressed));
+        }
+        return this.view(mapped);
+    }
+
+}
@@ -50,4 +50,16 @@
      *     properly construct the data serializable from the data view
      */
     Optional<T> build(DataView container) throws InvalidDataException;
+
+    /**
+     * Gets whether this builder may be used to build from several
+     * {@link DataView}s concurrently, which allows bulk deserialization to
+     * fan out across threads.
+     *
+     * @return True if this builder is thread-safe
+     * @see org.spongepowered.api.data.DataManager#deserializeAll(Class, java.util.stream.Stream, java.util.concurrent.Executor)
+     */
+    default boolean isThreadSafe() {
+        return false;
+    }
 }
@@ -60,4 +60,39 @@ public interface DataFormat extends DefaultedRegistryValue {
      */
     void writeTo(OutputStream output, DataView data) throws IOException;
 
+    /**
+     * Creates a {@link DataTokenReader} reading the contents of the given
+     * {@link InputStream} as a stream of tokens, without materializing the
+     * whole document.
+     *
+     * <p>Formats which cannot stream fall back to reading the document
+     * through {@link #readFrom(InputStream)} and walking the result.</p>
+     *
+     * @param input The input stream
+     * @return The reader
+     * @throws InvalidDataFormatException If the data in the stream was not a
+     *         supported format
+     * @throws IOException If there was an error reading from the stream
+     */
+    default DataTokenReader reader(final InputStream input) throws InvalidDataFormatException, IOException {
+        return DataTokenReader.of(this.readFrom(input));
+    }
+
+    /**
+     * Creates a {@link DataTokenWriter} writing a document to the given
+     * {@link OutputStream} token by token. Closing the writer closes the
+     * stream.
+     *
+     * <p>Formats which cannot stream fall back to buffering the document
+     * and writing it through {@link #writeTo(OutputStream, DataView)} once
+     * the writer is closed.</p>
+     *
+     * @param output The output stream
+     * @return The writer
+     * @throws IOException If there was an error writing to the stream
+     */
+    default DataTokenWriter writer(final OutputStream output) throws IOException {
+        return new DataTokens.BufferingWriter(view -> this.writeTo(output, view), output);
+    }
+
 }
@@ -35,6 +35,10 @@
 
 /**
  * A pseudo-enum of supported {@link DataFormat}s.
+ *
+ * <p>All of these formats implement {@link DataFormat#reader(java.io.InputStream)}
+ * and {@link DataFormat#writer(java.io.OutputStream)} by streaming, without
+ * materializing a {@link DataContainer}.</p>
  */
 @SuppressWarnings("unused")
 @RegistryScopes(scopes = RegistryScope.GAME)
@@ -50,7 +54,7 @@ public final class DataFormats {
 
     public static final DefaultedRegistryReference<StringDataFormat> SNBT = DataFormats.stringKey(ResourceKey.sponge("snbt"));
 
-    public static final DefaultedRegistryReference<DataFormat> NBT = DataFormats.key(ResourceKey.sponge("nbt"));
+    public static final DefaultedRegistryReference<BinaryDataFormat> NBT = DataFormats.binaryKey(ResourceKey.sponge("nbt"));
 
     // SORTFIELDS:OFF
 
@@ -67,7 +71,7 @@ private static DefaultedRegistryReference<StringDataFormat> stringKey(final Reso
         return RegistryKey.of(RegistryTypes.DATA_FORMAT, location).asDefaultedReference(Sponge::game);
     }
 
-    private static DefaultedRegistryReference<DataFormat> key(final ResourceKey location) {
+    private static DefaultedRegistryReference<BinaryDataFormat> binaryKey(final ResourceKey location) {
         return RegistryKey.of(RegistryTypes.DATA_FORMAT, location).asDefaultedReference(Sponge::game);
     }
 }
@@ -25,62 +25,131 @@
 package org.spongepowered.api.data.persistence;
 
 import org.checkerframework.checker.nullness.qual.MonotonicNonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
 import java.util.Spliterator;
 import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 import java.util.function.Consumer;
-import java.util.regex.Pattern;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 /**
  * Represents a query that can be done on views. Queries do not depend on
  * their separator, it is just a way to construct them.
+ *
+ * <p>Queries are interned: every query is a node linked to its parent query,
+ * and two equal queries that are reachable at the same time are always the
+ * same instance. This makes {@link #then(String)} and {@link #pop()} constant
+ * time operations and most equality checks a reference comparison. Queries
+ * that are no longer referenced are released.</p>
  */
 public final class DataQuery implements Iterable<String> {
 
-    private static final DataQuery EMPTY = new DataQuery();
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<DataQuery, ConcurrentMap> CHILDREN =
+        AtomicReferenceFieldUpdater.newUpdater(DataQuery.class, ConcurrentMap.class, "children");
+    private static final ReferenceQueue<DataQuery> STALE_CHILDREN = new ReferenceQueue<>();
+    private static final DataQuery EMPTY = new DataQuery(null, null);
 
     /**
-     * The parts that make up this query.
+     * The query this query extends, or {@code null} for the empty query.
      */
-    private final List<String> parts;
+    private final @Nullable DataQuery parent;
 
-    private @MonotonicNonNull List<DataQuery> queryParts; //lazy loaded
+    /**
+     * The last part of this query, or {@code null} for the empty query.
+     */
+    private final @Nullable String part;
 
     /**
-     * Constructs a query using the given separator character and path.
-     *
-     * <p>As an example, {@code new DataQuery('/', "a/b/c")} and
-     * {@code new DataQuery('.', "a.b.c")} represent the same path but are
-     * constructed using different separators.</p>
-     *
-     * @param separator The separator
-     * @param path The path
+     * The amount of parts that make up this query.
      */
-    private DataQuery(final char separator, final String path) {
-        this(path.split(Pattern.quote(String.valueOf(separator))));
+    private final int size;
+
+    /**
+     * The {@link List#hashCode() list hash} of the parts of this query.
+     */
+    private final int partsHash;
+
+    /**
+     * The interned queries extending this query by a single part, only
+     * weakly referenced such that unused queries can be collected.
+     */
+    private volatile @MonotonicNonNull ConcurrentMap<String, ChildReference> children; // lazy loaded
+
+    private @MonotonicNonNull List<String> parts; //lazy loaded
+    private @MonotonicNonNull List<DataQuery> queryParts; //lazy loaded
+
+    private DataQuery(final @Nullable DataQuery parent, final @Nullable String part) {
+        this.parent = parent;
+        this.part = part;
+        if (parent == null) {
+            this.size = 0;
+            this.partsHash = 1;
+        } else {
+            this.size = parent.size + 1;
+            this.partsHash = 31 * parent.partsHash + Objects.requireNonNull(part, "part").hashCode();
+        }
     }
 
     /**
-     * Constructs a query using the given parts.
+     * Gets the interned query made up of this query's parts followed by the
+     * given part.
      *
-     * @param parts The parts
+     * @param part The part
+     * @return The child query
      */
-    private DataQuery(final String... parts) {
-        this.parts = List.of(parts);
+    private DataQuery child(final String part) {
+        Objects.requireNonNull(part, "part");
+        @Nullable ConcurrentMap<String, ChildReference> children = this.children;
+        if (children == null) {
+            DataQuery.CHILDREN.compareAndSet(this, null, new ConcurrentHashMap<>(4));
+            children = this.children;
+        } else {
+            final @Nullable ChildReference reference = children.get(part);
+            final @Nullable DataQuery child = reference == null ? null : reference.get();
+            if (child != null) {
+                return child;
+            }
+        }
+        DataQuery.expungeStaleChildren();
+        final DataQuery created = new DataQuery(this, part);
+        final ChildReference createdReference = new ChildReference(created);
+        while (true) {
+            final @Nullable ChildReference existing = children.putIfAbsent(part, createdReference);
+            if (existing == null) {
+                return created;
+            }
+            final @Nullable DataQuery child = existing.get();
+            if (child != null) {
+                return child;
+            }
+            if (children.replace(part, existing, createdReference)) {
+                return created;
+            }
+        }
     }
 
     /**
-     * Constructs a query using the given parts.
-     *
-     * @param parts The parts
+     * Removes the entries of collected queries from the child tables of
+     * their parents.
      */
-    private DataQuery(final List<String> parts) {
-        this.parts = List.copyOf(parts);
+    private static void expungeStaleChildren() {
+        @Nullable Reference<? extends DataQuery> stale;
+        while ((stale = DataQuery.STALE_CHILDREN.poll()) != null) {
+            final ChildReference reference = (ChildReference) stale;
+            final @Nullable ConcurrentMap<String, ChildReference> children = reference.parent.children;
+            if (children != null) {
+                children.remove(reference.part, reference);
+            }
+        }
     }
 
     /**
@@ -97,16 +166,37 @@ public static DataQuery of() {
     /**
      * Constructs a query using the given separator character and path.
      *
-     * <p>As an example, {@code new DataQuery('/', "a/b/c")} and
-     * {@code new DataQuery('.', "a.b.c")} represent the same path but are
+     * <p>As an example, {@code DataQuery.of('/', "a/b/c")} and
+     * {@code DataQuery.of('.', "a.b.c")} represent the same path but are
      * constructed using different separators.</p>
      *
+     * <p>The path is split the same way {@link String#split(String)} would
+     * split it on the quoted separator, without compiling a pattern.</p>
+     *
      * @param separator The separator
      * @param path The path
      * @return The newly constructed {@link DataQuery}
      */
     public static DataQuery of(final char separator, final String path) {
-        return new DataQuery(separator, path);
+        if (path.isEmpty()) {
+            return DataQuery.EMPTY.child(path);
+        }
+        // Trailing empty parts are dropped, as String#split does
+        int end = path.length();
+        while (end > 0 && path.charAt(end - 1) == separator) {
+            end--;
+        }
+        DataQuery query = DataQuery.EMPTY;
+        int start = 0;
+        while (start < end) {
+            int index = path.indexOf(separator, start);
+            if (index == -1 || index > end) {
+                index = end;
+            }
+            query = query.child(path.substring(start, index));
+            start = index + 1;
+        }
+        return query;
     }
 
     /**
@@ -116,10 +206,11 @@ public static DataQuery of(final char separator, final String path) {
      * @return The newly constructed {@link DataQuery}
      */
     public static DataQuery of(final String... parts) {
-        if (parts.length == 0) {
-            return DataQuery.EMPTY;
+        DataQuery query = DataQuery.EMPTY;
+        for (final String part : parts) {
+            query = query.child(part);
         }
-        return new DataQuery(parts);
+        return query;
     }
 
     /**
@@ -129,10 +220,11 @@ public static DataQuery of(final String... parts) {
      * @return The newly constructed {@link DataQuery}
      */
     public static DataQuery of(final List<String> parts) {
-        if (parts.isEmpty()) {
-            return DataQuery.EMPTY;
+        DataQuery query = DataQuery.EMPTY;
+        for (final String part : parts) {
+            query = query.child(part);
         }
-        return new DataQuery(parts);
+        return query;
     }
 
     /**
@@ -141,6 +233,15 @@ public static DataQuery of(final List<String> parts) {
      * @return The parts of this query
      */
     public List<String> parts() {
+        if (this.parts == null) {
+            final String[] parts = new String[this.size];
+            DataQuery query = this;
+            for (int i = this.size - 1; i >= 0; i--) {
+                parts[i] = query.part;
+                query = query.parent;
+            }
+            this.parts = List.of(parts);
+        }
         return this.parts;
     }
 
@@ -152,8 +253,17 @@ public List<String> parts() {
      * @return The constructed query
      */
     public DataQuery then(final DataQuery that) {
-        final var parts = Stream.concat(this.parts.stream(), that.parts.stream()).collect(Collectors.toUnmodifiableList());
-        return new DataQuery(parts);
+        if (that.size == 0) {
+            return this;
+        }
+        if (this.size == 0) {
+            return that;
+        }
+        DataQuery query = this;
+        for (final String part : that.parts()) {
+            query = query.child(part);
+        }
+        return query;
     }
 
     /**
@@ -164,8 +274,7 @@ public DataQuery then(final DataQuery that) {
      * @return The constructed query
      */
     public DataQuery then(final String that) {
-        final var parts = Stream.concat(this.parts.stream(), Stream.of(that)).collect(Collectors.toUnmodifiableList());
-        return new DataQuery(parts);
+        return this.child(that);
     }
 
     /**
@@ -176,7 +285,13 @@ public DataQuery then(final String that) {
      */
     public List<DataQuery> queryParts() {
         if (this.queryParts == null) {
-            this.queryParts = this.parts().stream().map(DataQuery::new).collect(Collectors.toUnmodifiableList());
+            final DataQuery[] queryParts = new DataQuery[this.size];
+            DataQuery query = this;
+            for (int i = this.size - 1; i >= 0; i--) {
+                queryParts[i] = query.last();
+                query = query.parent;
+            }
+            this.queryParts = List.of(queryParts);
         }
         return this.queryParts;
     }
@@ -189,11 +304,7 @@ public List<DataQuery> queryParts() {
      * @return The next level query
      */
     public DataQuery pop() {
-        if (this.parts.size() <= 1) {
-            return DataQuery.of();
-        }
-        final var parts = this.parts.stream().limit(this.parts.size() - 1L).collect(Collectors.toUnmodifiableList());
-        return new DataQuery(parts);
+        return this.parent == null ? DataQuery.EMPTY : this.parent;
     }
 
     /**
@@ -204,11 +315,15 @@ public DataQuery pop() {
      * @return The next level query
      */
     public DataQuery popFirst() {
-        if (this.parts.size() <= 1) {
-            return DataQuery.of();
+        if (this.size <= 1) {
+            return DataQuery.EMPTY;
+        }
+        final List<String> parts = this.parts();
+        DataQuery query = DataQuery.EMPTY;
+        for (int i = 1; i < this.size; i++) {
+            query = query.child(parts.get(i));
         }
-        final var parts = this.parts.stream().skip(1L).collect(Collectors.toUnmodifiableList());
-        return new DataQuery(parts);
+        return query;
     }
 
     /**
@@ -218,10 +333,10 @@ public DataQuery popFirst() {
      * @return The last entry as a data query, if not already last
      */
     public DataQuery last() {
-        if (this.parts.size() <= 1) {
+        if (this.size <= 1) {
             return this;
         }
-        return new DataQuery(this.parts.get(this.parts.size() - 1));
+        return DataQuery.EMPTY.child(this.part);
     }
 
     /**
@@ -232,7 +347,7 @@ public DataQuery last() {
      */
     public String asString(final String separator) {
         final StringJoiner stringJoiner = new StringJoiner(separator);
-        this.parts.forEach(stringJoiner::add);
+        this.parts().forEach(stringJoiner::add);
         return stringJoiner.toString();
     }
 
@@ -253,7 +368,8 @@ public String toString() {
 
     @Override
     public int hashCode() {
-        return Objects.hash(this.parts);
+        // Matches Objects.hash(parts())
+        return 31 + this.partsHash;
     }
 
     @Override
@@ -264,23 +380,53 @@ public boolean equals(final Object obj) {
         if (obj == null || this.getClass() != obj.getClass()) {
             return false;
         }
-        final DataQuery other = (DataQuery) obj;
-        return Objects.equals(this.parts, other.parts);
+        // Interned queries are only ever equal to themselves, this only
+        // exists to stay correct should that invariant ever be broken
+        DataQuery query = this;
+        DataQuery other = (DataQuery) obj;
+        if (query.size != other.size || query.partsHash != other.partsHash) {
+            return false;
+        }
+        while (query != other) {
+            if (!Objects.equals(query.part, other.part)) {
+                return false;
+            }
+            query = query.parent;
+            other = other.parent;
+        }
+        return true;
     }
 
     @Override
     public Iterator<String> iterator() {
-        return this.parts.iterator();
+        return this.parts().iterator();
     }
 
     @Override
     public void forEach(final Consumer<? super String> action) {
-        this.parts.forEach(action);
+        this.parts().forEach(action);
     }
 
     @Override
     public Spliterator<String> spliterator() {
-        return this.parts.spliterator();
+        return this.parts().spliterator();
+    }
+
+    /**
+     * A weak reference to an interned child query, which remembers where it
+     * is stored such that it can be removed once the query is collected.
+     */
+    private static final class ChildReference extends WeakReference<DataQuery> {
+
+        final DataQuery parent;
+        final String part;
+
+        ChildReference(final DataQuery child) {
+            super(child, DataQuery.STALE_CHILDREN);
+            this.parent = Objects.requireNonNull(child.parent, "parent");
+            this.part = Objects.requireNonNull(child.part, "part");
+        }
+
     }
 
 }
@@ -35,6 +35,7 @@
 
 import java.lang.reflect.Type;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.BiConsumer;
@@ -62,6 +63,30 @@ public interface DataStore {
      */
     DataView serialize(DataManipulator dataManipulator, DataView view);
 
+    /**
+     * Serializes the values of each {@link DataManipulator} into the
+     * {@link DataView} at the same position, such as when saving all
+     * entities of a chunk at once.
+     *
+     * <p>Compared to calling {@link #serialize(DataManipulator, DataView)}
+     * for each pair, implementations may resolve the keys and paths of this
+     * store once for the whole batch.</p>
+     *
+     * @param dataManipulators The data manipulators
+     * @param views The data views to serialize to, one per data manipulator
+     * @throws IllegalArgumentException If the amount of data manipulators
+     *     and views differ
+     */
+    default void serializeAll(final Collection<? extends DataManipulator> dataManipulators, final Collection<? extends DataView> views) {
+        if (dataManipulators.size() != views.size()) {
+            throw new IllegalArgumentException("Expected " + dataManipulators.size() + " views but got " + views.size());
+        }
+        final Iterator<? extends DataView> viewIterator = views.iterator();
+        for (final DataManipulator dataManipulator : dataManipulators) {
+            this.serialize(dataManipulator, viewIterator.next());
+        }
+    }
+
     /**
      * Serializes the passed in {@link Value values} to the {@link DataView view}.
      *
@@ -287,6 +312,12 @@ interface EndStep extends SerializersStep, ResettableBuilder<DataStore, Builder>
             /**
              * Builds a dataStore for given dataHolder type.
              *
+             * <p>The registered keys are compiled into a codec when the
+             * store is built: queries and serializers are resolved once,
+             * and reading from a {@link DataView} visits each entry of the
+             * view a single time rather than looking up every key
+             * separately.</p>
+             *
              * @return The new data store
              */
             DataStore build();
@@ -0,0 +1,154 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data.persistence;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * A pull parser over serialized data, exposing its contents as a sequence
+ * of {@link Token tokens} rather than a materialized {@link DataContainer}.
+ * This allows huge payloads to be filtered or transformed in constant
+ * memory.
+ *
+ * <p>A document is a single view: a {@link Token#BEGIN_VIEW}, followed by
+ * any amount of {@link Token#KEY keys} each followed by its value, and a
+ * {@link Token#END_VIEW}, after which only {@link Token#END_DOCUMENT} is
+ * returned. A value is either a {@link Token#VALUE} or a nested view or
+ * list. Lists are delimited by {@link Token#BEGIN_LIST} and
+ * {@link Token#END_LIST} and contain values without keys.</p>
+ *
+ * @see DataFormat#reader(java.io.InputStream)
+ * @see DataTokenWriter
+ */
+public interface DataTokenReader extends Closeable {
+
+    /**
+     * Creates a reader walking the contents of the given {@link DataView}.
+     *
+     * @param view The view
+     * @return The reader
+     */
+    static DataTokenReader of(final DataView view) {
+        return new DataTokens.ViewReader(view);
+    }
+
+    /**
+     * Gets the next token without consuming it.
+     *
+     * @return The next token
+     * @throws IOException If reading from the underlying source fails
+     * @throws InvalidDataException If the data is malformed
+     */
+    Token peek() throws IOException;
+
+    /**
+     * Consumes the next token.
+     *
+     * @return The consumed token
+     * @throws IOException If reading from the underlying source fails
+     * @throws InvalidDataException If the data is malformed
+     */
+    Token next() throws IOException;
+
+    /**
+     * Gets the key of the last consumed {@link Token#KEY}.
+     *
+     * @return The key
+     * @throws IllegalStateException If the last consumed token is not a key
+     */
+    String key();
+
+    /**
+     * Gets the value of the last consumed {@link Token#VALUE}. This is a
+     * {@link Boolean}, {@link Number}, {@link String} or primitive array.
+     *
+     * @return The value
+     * @throws IllegalStateException If the last consumed token is not a value
+     */
+    Object value();
+
+    /**
+     * Skips the next element. If the next token is a {@link Token#KEY}, the
+     * key and its value are skipped, if it begins a view or list, everything
+     * up to and including the matching end is skipped.
+     *
+     * @throws IOException If reading from the underlying source fails
+     * @throws InvalidDataException If the data is malformed
+     */
+    default void skip() throws IOException {
+        Token token = this.next();
+        if (token == Token.KEY) {
+            token = this.next();
+        }
+        if (token != Token.BEGIN_VIEW && token != Token.BEGIN_LIST) {
+            return;
+        }
+        int depth = 1;
+        while (depth > 0) {
+            switch (this.next()) {
+                case BEGIN_VIEW:
+                case BEGIN_LIST:
+                    depth++;
+                    break;
+                case END_VIEW:
+                case END_LIST:
+                    depth--;
+                    break;
+                case END_DOCUMENT:
+                    throw new InvalidDataException("Unexpected end of document");
+                default:
+                    break;
+            }
+        }
+    }
+
+    /**
+     * Materializes the next view, which must begin with a
+     * {@link Token#BEGIN_VIEW}, into a new {@link DataContainer}.
+     *
+     * @return The view
+     * @throws IOException If reading from the underlying source fails
+     * @throws InvalidDataException If the next element is not a view or the
+     *     data is malformed
+     */
+    default DataContainer readView() throws IOException {
+        return DataTokens.readView(this);
+    }
+
+    /**
+     * The tokens that make up a document.
+     */
+    enum Token {
+        BEGIN_VIEW,
+        END_VIEW,
+        BEGIN_LIST,
+        END_LIST,
+        KEY,
+        VALUE,
+        END_DOCUMENT
+    }
+
+}
@@ -0,0 +1,133 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data.persistence;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+
+/**
+ * A push writer for serialized data, the counterpart of a
+ * {@link DataTokenReader}. Documents are written token by token following
+ * the structure described by {@link DataTokenReader}, without first building
+ * a {@link DataContainer}.
+ *
+ * <p>Closing the writer completes the document and closes the underlying
+ * stream.</p>
+ *
+ * @see DataFormat#writer(java.io.OutputStream)
+ */
+public interface DataTokenWriter extends Closeable, Flushable {
+
+    /**
+     * Begins a view, either as the document itself, as the value of the
+     * last written key or as an element of the current list.
+     *
+     * @return This writer, for chaining
+     * @throws IOException If writing to the underlying stream fails
+     * @throws IllegalStateException If a view is not expected
+     */
+    DataTokenWriter beginView() throws IOException;
+
+    /**
+     * Ends the current view.
+     *
+     * @return This writer, for chaining
+     * @throws IOException If writing to the underlying stream fails
+     * @throws IllegalStateException If there is no view to end
+     */
+    DataTokenWriter endView() throws IOException;
+
+    /**
+     * Begins a list, as the value of the last written key or as an element
+     * of the current list.
+     *
+     * @return This writer, for chaining
+     * @throws IOException If writing to the underlying stream fails
+     * @throws IllegalStateException If a list is not expected
+     */
+    DataTokenWriter beginList() throws IOException;
+
+    /**
+     * Ends the current list.
+     *
+     * @return This writer, for chaining
+     * @throws IOException If writing to the underlying stream fails
+     * @throws IllegalStateException If there is no list to end
+     */
+    DataTokenWriter endList() throws IOException;
+
+    /**
+     * Writes a key within the current view, which must be followed by its
+     * value.
+     *
+     * @param key The key
+     * @return This writer, for chaining
+     * @throws IOException If writing to the underlying stream fails
+     * @throws IllegalStateException If a key is not expected
+     */
+    DataTokenWriter key(String key) throws IOException;
+
+    /**
+     * Writes a value, either for the last written key or as an element of
+     * the current list. Views, lists, maps and {@link DataSerializable}s are
+     * written as their respective tokens.
+     *
+     * @param value The value
+     * @return This writer, for chaining
+     * @throws IOException If writing to the underlying stream fails
+     * @throws IllegalStateException If a value is not expected
+     */
+    DataTokenWriter value(Object value) throws IOException;
+
+    /**
+     * Writes the given view, as if by {@link #value(Object)}.
+     *
+     * @param view The view
+     * @return This writer, for chaining
+     * @throws IOException If writing to the underlying stream fails
+     * @throws IllegalStateException If a view is not expected
+     */
+    default DataTokenWriter view(final DataView view) throws IOException {
+        DataTokens.writeView(this, view);
+        return this;
+    }
+
+    /**
+     * Copies the next element of the given reader to this writer, including
+     * any nested views and lists. If the next token is a
+     * {@link DataTokenReader.Token#KEY}, both the key and its value are
+     * copied.
+     *
+     * @param reader The reader to copy from
+     * @return This writer, for chaining
+     * @throws IOException If reading or writing fails
+     */
+    default DataTokenWriter copy(final DataTokenReader reader) throws IOException {
+        DataTokens.copy(reader, this);
+        return this;
+    }
+
+}
@@ -0,0 +1,424 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data.persistence;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Shared token handling for {@link DataTokenReader} and
+ * {@link DataTokenWriter}, including the fallbacks used by
+ * {@link DataFormat}s which do not stream natively.
+ */
+final class DataTokens {
+
+    static DataContainer readView(final DataTokenReader reader) throws IOException {
+        final DataTokenReader.Token token = reader.next();
+        if (token != DataTokenReader.Token.BEGIN_VIEW) {
+            throw new InvalidDataException("Expected the beginning of a view but got " + token);
+        }
+        final DataContainer container = DataContainer.createNew();
+        DataTokens.readViewContents(reader, container);
+        return container;
+    }
+
+    private static void readViewContents(final DataTokenReader reader, final DataView view) throws IOException {
+        while (true) {
+            final DataTokenReader.Token token = reader.next();
+            if (token == DataTokenReader.Token.END_VIEW) {
+                return;
+            }
+            if (token != DataTokenReader.Token.KEY) {
+                throw new InvalidDataException("Expected a key but got " + token);
+            }
+            final String key = reader.key();
+            view.set(DataQuery.of(key), DataTokens.readValue(reader));
+        }
+    }
+
+    private static Object readValue(final DataTokenReader reader) throws IOException {
+        final DataTokenReader.Token token = reader.next();
+        switch (token) {
+            case VALUE:
+                return reader.value();
+            case BEGIN_VIEW:
+                final DataContainer container = DataContainer.createNew();
+                DataTokens.readViewContents(reader, container);
+                return container;
+            case BEGIN_LIST:
+                final List<Object> list = new ArrayList<>();
+                while (reader.peek() != DataTokenReader.Token.END_LIST) {
+                    list.add(DataTokens.readValue(reader));
+                }
+                reader.next();
+                return list;
+            default:
+                throw new InvalidDataException("Expected a value but got " + token);
+        }
+    }
+
+    static void writeView(final DataTokenWriter writer, final DataView view) throws IOException {
+        writer.beginView();
+        for (final Map.Entry<DataQuery, Object> entry : view.values(false).entrySet()) {
+            writer.key(DataTokens.name(entry.getKey()));
+            DataTokens.writeValue(writer, entry.getValue());
+        }
+        writer.endView();
+    }
+
+    static void writeValue(final DataTokenWriter writer, final Object value) throws IOException {
+        if (value instanceof DataView) {
+            DataTokens.writeView(writer, (DataView) value);
+        } else if (value instanceof DataSerializable) {
+            DataTokens.writeView(writer, ((DataSerializable) value).toContainer());
+        } else if (value instanceof Map) {
+            writer.beginView();
+            for (final Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                writer.key(DataTokens.name(entry.getKey()));
+                DataTokens.writeValue(writer, entry.getValue());
+            }
+            writer.endView();
+        } else if (value instanceof List) {
+            writer.beginList();
+            for (final Object element : (List<?>) value) {
+                DataTokens.writeValue(writer, element);
+            }
+            writer.endList();
+        } else {
+            writer.value(value);
+        }
+    }
+
+    static void copy(final DataTokenReader reader, final DataTokenWriter writer) throws IOException {
+        final DataTokenReader.Token token = reader.next();
+        switch (token) {
+            case KEY:
+                writer.key(reader.key());
+                DataTokens.copy(reader, writer);
+                break;
+            case VALUE:
+                writer.value(reader.value());
+                break;
+            case BEGIN_VIEW:
+                writer.beginView();
+                while (reader.peek() != DataTokenReader.Token.END_VIEW) {
+                    DataTokens.copy(reader, writer);
+                }
+                reader.next();
+                writer.endView();
+                break;
+            case BEGIN_LIST:
+                writer.beginList();
+                while (reader.peek() != DataTokenReader.Token.END_LIST) {
+                    DataTokens.copy(reader, writer);
+                }
+                reader.next();
+                writer.endList();
+                break;
+            default:
+                throw new InvalidDataException("Unexpected " + token);
+        }
+    }
+
+    private static String name(final Object key) {
+        if (key instanceof DataQuery) {
+            final List<String> parts = ((DataQuery) key).parts();
+            return parts.get(parts.size() - 1);
+        }
+        return String.valueOf(key);
+    }
+
+    private DataTokens() {
+    }
+
+    /**
+     * Receives the view built by a {@link BufferingWriter}, without closing
+     * the output it writes to.
+     */
+    @FunctionalInterface
+    interface Sink {
+
+        void accept(DataView view) throws IOException;
+    }
+
+    /**
+     * A reader walking an already materialized {@link DataView}.
+     */
+    static final class ViewReader implements DataTokenReader {
+
+        private final Deque<Iterator<?>> iterators = new ArrayDeque<>();
+        private final Deque<Boolean> views = new ArrayDeque<>();
+        private @Nullable DataView root;
+        private @Nullable Token peeked;
+        private @Nullable Object pending;
+        private @Nullable Token current;
+        private @Nullable String key;
+        private @Nullable Object value;
+
+        ViewReader(final DataView view) {
+            this.root = view;
+        }
+
+        @Override
+        public Token peek() {
+            if (this.peeked == null) {
+                this.peeked = this.advance();
+            }
+            return this.peeked;
+        }
+
+        @Override
+        public Token next() {
+            final Token token = this.peek();
+            this.peeked = null;
+            this.current = token;
+            return token;
+        }
+
+        private Token advance() {
+            if (this.root != null) {
+                final DataView root = this.root;
+                this.root = null;
+                return this.open(root);
+            }
+            if (this.pending != null) {
+                final Object pending = this.pending;
+                this.pending = null;
+                return this.open(pending);
+            }
+            final @Nullable Iterator<?> iterator = this.iterators.peek();
+            if (iterator == null) {
+                return Token.END_DOCUMENT;
+            }
+            final boolean view = this.views.peek();
+            if (!iterator.hasNext()) {
+                this.iterators.pop();
+                this.views.pop();
+                return view ? Token.END_VIEW : Token.END_LIST;
+            }
+            if (!view) {
+                return this.open(iterator.next());
+            }
+            final Map.Entry<?, ?> entry = (Map.Entry<?, ?>) iterator.next();
+            this.key = DataTokens.name(entry.getKey());
+            this.pending = entry.getValue();
+            return Token.KEY;
+        }
+
+        private Token open(final Object value) {
+            if (value instanceof DataView) {
+                this.push(((DataView) value).values(false).entrySet().iterator(), true);
+                return Token.BEGIN_VIEW;
+            }
+            if (value instanceof DataSerializable) {
+                return this.open(((DataSerializable) value).toContainer());
+            }
+            if (value instanceof Map) {
+                this.push(((Map<?, ?>) value).entrySet().iterator(), true);
+                return Token.BEGIN_VIEW;
+            }
+            if (value instanceof List) {
+                this.push(((List<?>) value).iterator(), false);
+                return Token.BEGIN_LIST;
+            }
+            this.value = value;
+            return Token.VALUE;
+        }
+
+        private void push(final Iterator<?> iterator, final boolean view) {
+            this.iterators.push(iterator);
+            this.views.push(view);
+        }
+
+        @Override
+        public String key() {
+            if (this.current != Token.KEY || this.key == null) {
+                throw new IllegalStateException("The last token was not a key");
+            }
+            return this.key;
+        }
+
+        @Override
+        public Object value() {
+            if (this.current != Token.VALUE || this.value == null) {
+                throw new IllegalStateException("The last token was not a value");
+            }
+            return this.value;
+        }
+
+        @Override
+        public void close() {
+            this.root = null;
+            this.pending = null;
+            this.iterators.clear();
+            this.views.clear();
+        }
+    }
+
+    /**
+     * A writer building a {@link DataContainer} which is handed to a
+     * {@link Sink} once the document is closed, closing the output
+     * afterwards whether or not the document was complete.
+     */
+    static final class BufferingWriter implements DataTokenWriter {
+
+        private final Sink sink;
+        private final Closeable output;
+        private final Deque<Frame> frames = new ArrayDeque<>();
+        private @Nullable DataContainer root;
+        private @Nullable String key;
+        private boolean closed;
+
+        BufferingWriter(final Sink sink, final Closeable output) {
+            this.sink = sink;
+            this.output = output;
+        }
+
+        private void checkValueExpected() {
+            if (this.closed) {
+                throw new IllegalStateException("The writer is closed");
+            }
+            final @Nullable Frame frame = this.frames.peek();
+            if (frame == null) {
+                if (this.root != null) {
+                    throw new IllegalStateException("The document was already written");
+                }
+            } else if (frame.target instanceof DataView && this.key == null) {
+                throw new IllegalStateException("Expected a key");
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private void attach(final Object value) {
+            final @Nullable Frame frame = this.frames.peek();
+            if (frame == null) {
+                this.root = (DataContainer) value;
+            } else if (frame.target instanceof DataView) {
+                ((DataView) frame.target).set(DataQuery.of(this.key), value);
+                this.key = null;
+            } else {
+                ((List<Object>) frame.target).add(value);
+            }
+        }
+
+        @Override
+        public DataTokenWriter beginView() {
+            this.checkValueExpected();
+            this.frames.push(new Frame(DataContainer.createNew(), this.key));
+            this.key = null;
+            return this;
+        }
+
+        @Override
+        public DataTokenWriter endView() {
+            return this.end(true);
+        }
+
+        @Override
+        public DataTokenWriter beginList() {
+            this.checkValueExpected();
+            if (this.frames.isEmpty()) {
+                throw new IllegalStateException("A document must be a view");
+            }
+            this.frames.push(new Frame(new ArrayList<>(), this.key));
+            this.key = null;
+            return this;
+        }
+
+        @Override
+        public DataTokenWriter endList() {
+            return this.end(false);
+        }
+
+        private DataTokenWriter end(final boolean view) {
+            final @Nullable Frame frame = this.frames.peek();
+            if (frame == null || (frame.target instanceof DataView) != view || this.key != null) {
+                throw new IllegalStateException("There is no " + (view ? "view" : "list") + " to end");
+            }
+            this.frames.pop();
+            this.key = frame.key;
+            this.attach(frame.target);
+            return this;
+        }
+
+        @Override
+        public DataTokenWriter key(final String key) {
+            final @Nullable Frame frame = this.frames.peek();
+            if (frame == null || !(frame.target instanceof DataView) || this.key != null) {
+                throw new IllegalStateException("A key is not expected");
+            }
+            this.key = key;
+            return this;
+        }
+
+        @Override
+        public DataTokenWriter value(final Object value) throws IOException {
+            this.checkValueExpected();
+            if (this.frames.isEmpty()) {
+                throw new IllegalStateException("A document must be a view");
+            }
+            this.attach(value);
+            return this;
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (this.closed) {
+                return;
+            }
+            this.closed = true;
+            try (this.output) {
+                if (this.root == null) {
+                    throw new IllegalStateException("The document is incomplete");
+                }
+                this.sink.accept(this.root);
+            }
+        }
+
+        private static final class Frame {
+
+            final Object target;
+            final @Nullable String key;
+
+            Frame(final Object target, final @Nullable String key) {
+                this.target = target;
+                this.key = key;
+            }
+        }
+    }
+
+}
@@ -0,0 +1,124 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data.persistence;
+
+import org.spongepowered.api.data.DataManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * A precomputed chain of {@link DataContentUpdater}s migrating data of a
+ * {@link DataSerializable} from one content version to another.
+ *
+ * <p>Pipelines are resolved once per class and version pair and cached by
+ * the {@link DataManager}, see
+ * {@link DataManager#updatePipeline(Class, int, int)}.</p>
+ */
+public interface DataUpdatePipeline extends DataContentUpdater {
+
+    /**
+     * Gets the updaters making up this pipeline, in the order they are
+     * applied.
+     *
+     * @return The updaters
+     */
+    List<DataContentUpdater> updaters();
+
+    /**
+     * Updates the given view by applying every updater of this pipeline to
+     * it in turn, without copying it first.
+     *
+     * <p>Updaters modifying and returning the view they are given avoid any
+     * copies, so the returned view is usually the given view.</p>
+     *
+     * @param view The mutable view to update
+     * @return The updated view
+     */
+    default DataView updateInPlace(final DataView view) {
+        DataView updated = Objects.requireNonNull(view, "view");
+        for (final DataContentUpdater updater : this.updaters()) {
+            updated = updater.update(updated);
+        }
+        return updated;
+    }
+
+    /**
+     * Updates a copy of the given content, leaving the content itself
+     * untouched.
+     *
+     * @param content The content to update
+     * @return The updated copy
+     */
+    @Override
+    default DataView update(final DataView content) {
+        return this.updateInPlace(content.copy());
+    }
+
+    /**
+     * Updates every view of the given stream in place, as by
+     * {@link #updateInPlace(DataView)}, and returns the updated views in
+     * the encounter order of the stream. Updaters may return new views
+     * rather than modifying the views they are given, so the returned views
+     * must be used instead of the given ones. Parallel streams are updated
+     * in parallel, which requires the updaters of this pipeline to be
+     * thread-safe.
+     *
+     * @param views The views to update
+     * @return The updated views
+     */
+    default List<DataView> updateAll(final Stream<? extends DataView> views) {
+        return views.map(this::updateInPlace).collect(Collectors.toList());
+    }
+
+    /**
+     * Updates every view of the given stream in place, each view being
+     * submitted as its own task to the given pool, and returns the updated
+     * views in the encounter order of the stream. The updaters of this
+     * pipeline must be thread-safe. This method blocks until all views are
+     * updated.
+     *
+     * @param views The views to update
+     * @param pool The pool to update the views in
+     * @return The updated views
+     */
+    default List<DataView> updateAll(final Stream<? extends DataView> views, final ForkJoinPool pool) {
+        Objects.requireNonNull(pool, "pool");
+        final List<ForkJoinTask<DataView>> tasks = views
+            .map(view -> pool.submit(() -> this.updateInPlace(view)))
+            .collect(Collectors.toList());
+        final List<DataView> updated = new ArrayList<>(tasks.size());
+        for (final ForkJoinTask<DataView> task : tasks) {
+            updated.add(task.join());
+        }
+        return updated;
+    }
+
+}
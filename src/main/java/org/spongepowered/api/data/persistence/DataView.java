@@ -37,6 +37,9 @@
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
 import java.util.Set;
 
 /**
@@ -311,6 +314,212 @@ public interface DataView {
      */
     Optional<String> getString(DataQuery path);
 
+    /**
+     * Gets the {@code int} by path, or the given default value if it is not
+     * available. Implementations may avoid boxing, while the default
+     * delegates to {@link #getInt(DataQuery)} and unboxes its result.
+     *
+     * @param path The path of the value to get
+     * @param defaultValue The value to return if no int is available
+     * @return The int, or the default value
+     */
+    default int getIntOr(final DataQuery path, final int defaultValue) {
+        final Optional<Integer> value = this.getInt(path);
+        return value.isPresent() ? value.get() : defaultValue;
+    }
+
+    /**
+     * Gets the {@code long} by path, or the given default value if it is not
+     * available. Implementations may avoid boxing, while the default
+     * delegates to {@link #getLong(DataQuery)} and unboxes its result.
+     *
+     * @param path The path of the value to get
+     * @param defaultValue The value to return if no long is available
+     * @return The long, or the default value
+     */
+    default long getLongOr(final DataQuery path, final long defaultValue) {
+        final Optional<Long> value = this.getLong(path);
+        return value.isPresent() ? value.get() : defaultValue;
+    }
+
+    /**
+     * Gets the {@code double} by path, or the given default value if it is
+     * not available. Implementations may avoid boxing, while the default
+     * delegates to {@link #getDouble(DataQuery)} and unboxes its result.
+     *
+     * @param path The path of the value to get
+     * @param defaultValue The value to return if no double is available
+     * @return The double, or the default value
+     */
+    default double getDoubleOr(final DataQuery path, final double defaultValue) {
+        final Optional<Double> value = this.getDouble(path);
+        return value.isPresent() ? value.get() : defaultValue;
+    }
+
+    /**
+     * Gets the {@code boolean} by path, or the given default value if it is
+     * not available. Implementations may avoid boxing, while the default
+     * delegates to {@link #getBoolean(DataQuery)} and unboxes its result.
+     *
+     * @param path The path of the value to get
+     * @param defaultValue The value to return if no boolean is available
+     * @return The boolean, or the default value
+     */
+    default boolean getBooleanOr(final DataQuery path, final boolean defaultValue) {
+        final Optional<Boolean> value = this.getBoolean(path);
+        return value.isPresent() ? value.get() : defaultValue;
+    }
+
+    /**
+     * Gets the {@code int} by path, if available. Implementations may avoid
+     * boxing, while the default delegates to {@link #getInt(DataQuery)} and
+     * unboxes its result.
+     *
+     * @param path The path of the value to get
+     * @return The int, if available
+     */
+    default OptionalInt getOptionalInt(final DataQuery path) {
+        final Optional<Integer> value = this.getInt(path);
+        return value.isPresent() ? OptionalInt.of(value.get()) : OptionalInt.empty();
+    }
+
+    /**
+     * Gets the {@code long} by path, if available. Implementations may avoid
+     * boxing, while the default delegates to {@link #getLong(DataQuery)} and
+     * unboxes its result.
+     *
+     * @param path The path of the value to get
+     * @return The long, if available
+     */
+    default OptionalLong getOptionalLong(final DataQuery path) {
+        final Optional<Long> value = this.getLong(path);
+        return value.isPresent() ? OptionalLong.of(value.get()) : OptionalLong.empty();
+    }
+
+    /**
+     * Gets the {@code double} by path, if available. Implementations may
+     * avoid boxing, while the default delegates to
+     * {@link #getDouble(DataQuery)} and unboxes its result.
+     *
+     * @param path The path of the value to get
+     * @return The double, if available
+     */
+    default OptionalDouble getOptionalDouble(final DataQuery path) {
+        final Optional<Double> value = this.getDouble(path);
+        return value.isPresent() ? OptionalDouble.of(value.get()) : OptionalDouble.empty();
+    }
+
+    /**
+     * Gets the {@code byte[]} by path, if available.
+     *
+     * <p>Arrays stored natively through {@link #setByteArray(DataQuery, byte[])}
+     * are returned as is when the {@link #safetyMode() safety mode} allows
+     * it, in which case they must not be modified. A list of numbers is
+     * converted into a new array.</p>
+     *
+     * @param path The path of the value to get
+     * @return The byte array, if available
+     */
+    default Optional<byte[]> getByteArray(final DataQuery path) {
+        final Optional<Object> value = this.get(path);
+        if (value.isPresent() && value.get() instanceof byte[]) {
+            return Optional.of((byte[]) value.get());
+        }
+        return this.getByteList(path).map(list -> {
+            final byte[] array = new byte[list.size()];
+            for (int i = 0; i < array.length; i++) {
+                array[i] = list.get(i);
+            }
+            return array;
+        });
+    }
+
+    /**
+     * Gets the {@code int[]} by path, if available.
+     *
+     * <p>Arrays stored natively through {@link #setIntArray(DataQuery, int[])}
+     * are returned as is when the {@link #safetyMode() safety mode} allows
+     * it, in which case they must not be modified. A list of numbers is
+     * converted into a new array.</p>
+     *
+     * @param path The path of the value to get
+     * @return The int array, if available
+     */
+    default Optional<int[]> getIntArray(final DataQuery path) {
+        final Optional<Object> value = this.get(path);
+        if (value.isPresent() && value.get() instanceof int[]) {
+            return Optional.of((int[]) value.get());
+        }
+        return this.getIntegerList(path).map(list -> {
+            final int[] array = new int[list.size()];
+            for (int i = 0; i < array.length; i++) {
+                array[i] = list.get(i);
+            }
+            return array;
+        });
+    }
+
+    /**
+     * Gets the {@code long[]} by path, if available.
+     *
+     * <p>Arrays stored natively through {@link #setLongArray(DataQuery, long[])}
+     * are returned as is when the {@link #safetyMode() safety mode} allows
+     * it, in which case they must not be modified. A list of numbers is
+     * converted into a new array.</p>
+     *
+     * @param path The path of the value to get
+     * @return The long array, if available
+     */
+    default Optional<long[]> getLongArray(final DataQuery path) {
+        final Optional<Object> value = this.get(path);
+        if (value.isPresent() && value.get() instanceof long[]) {
+            return Optional.of((long[]) value.get());
+        }
+        return this.getLongList(path).map(list -> {
+            final long[] array = new long[list.size()];
+            for (int i = 0; i < array.length; i++) {
+                array[i] = list.get(i);
+            }
+            return array;
+        });
+    }
+
+    /**
+     * Sets the given {@code byte[]} at the given path, stored natively as an
+     * array rather than as a list of boxed values.
+     *
+     * @param path The path of the array to set
+     * @param value The array
+     * @return This view, for chaining
+     */
+    default DataView setByteArray(final DataQuery path, final byte[] value) {
+        return this.set(path, Objects.requireNonNull(value, "value"));
+    }
+
+    /**
+     * Sets the given {@code int[]} at the given path, stored natively as an
+     * array rather than as a list of boxed values.
+     *
+     * @param path The path of the array to set
+     * @param value The array
+     * @return This view, for chaining
+     */
+    default DataView setIntArray(final DataQuery path, final int[] value) {
+        return this.set(path, Objects.requireNonNull(value, "value"));
+    }
+
+    /**
+     * Sets the given {@code long[]} at the given path, stored natively as an
+     * array rather than as a list of boxed values.
+     *
+     * @param path The path of the array to set
+     * @param value The array
+     * @return This view, for chaining
+     */
+    default DataView setLongArray(final DataQuery path, final long[] value) {
+        return this.set(path, Objects.requireNonNull(value, "value"));
+    }
+
     /**
      * Gets the {@link ResourceKey key} by path, if available.
      *
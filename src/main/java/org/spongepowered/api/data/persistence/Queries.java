@@ -92,6 +92,29 @@ public final class Queries {
     public static final DataQuery PROPERTY_VALUE = of("value");
     public static final DataQuery PROPERTY_SIGNATURE = of("signature");
 
+    // EventListenerMetrics
+    public static final DataQuery LISTENER_PLUGIN = of("Plugin");
+    public static final DataQuery LISTENER_EVENT_TYPE = of("EventType");
+    public static final DataQuery LISTENER_ORDER = of("Order");
+    public static final DataQuery LISTENER_INVOCATIONS = of("Invocations");
+    public static final DataQuery LISTENER_SAMPLED_INVOCATIONS = of("SampledInvocations");
+    public static final DataQuery LISTENER_TOTAL_TIME = of("TotalTimeNanos");
+    public static final DataQuery LISTENER_MAX_TIME = of("MaxTimeNanos");
+    public static final DataQuery LISTENER_PERCENTILES = of("PercentileNanos");
+    public static final DataQuery LISTENER_ALLOCATED_BYTES = of("AllocatedBytes");
+    public static final DataQuery LISTENER_REJECTED_EXECUTIONS = of("RejectedExecutions");
+    public static final DataQuery LISTENER_STATISTICS = of("Listeners");
+    public static final DataQuery METRICS_SAMPLE_RATE = of("SampleRate");
+
+    // EventJournal
+    public static final DataQuery JOURNAL_EVENTS = of("Events");
+    public static final DataQuery JOURNAL_EVENT_TYPE = of("Type");
+    public static final DataQuery JOURNAL_CAUSE = of("Cause");
+    public static final DataQuery JOURNAL_CONTEXT = of("Context");
+    public static final DataQuery JOURNAL_TIMESTAMP = of("Timestamp");
+    public static final DataQuery JOURNAL_DURATION = of("Duration");
+    public static final DataQuery JOURNAL_CANCELLED = of("Cancelled");
+
     // Suppress default constructor to ensure non-instantiability.
     private Queries() {
         throw new AssertionError("You should not be attempting to instantiate this class.");
@@ -77,4 +77,33 @@ public interface StringDataFormat extends DataFormat {
      */
     void writeTo(Writer output, DataView data) throws IOException;
 
+    /**
+     * Creates a {@link DataTokenReader} reading the contents of the given
+     * {@link Reader} as a stream of tokens.
+     *
+     * @param input The reader
+     * @return The token reader
+     * @throws InvalidDataException If the data in the reader was not a
+     *         supported format
+     * @throws IOException If there was an error reading from the reader
+     * @see DataFormat#reader(java.io.InputStream)
+     */
+    default DataTokenReader reader(final Reader input) throws InvalidDataException, IOException {
+        return DataTokenReader.of(this.readFrom(input));
+    }
+
+    /**
+     * Creates a {@link DataTokenWriter} writing a document to the given
+     * {@link Writer} token by token. Closing the token writer closes the
+     * writer.
+     *
+     * @param output The writer to write the data to
+     * @return The token writer
+     * @throws IOException If there was an error writing to the writer
+     * @see DataFormat#writer(java.io.OutputStream)
+     */
+    default DataTokenWriter writer(final Writer output) throws IOException {
+        return new DataTokens.BufferingWriter(view -> this.writeTo(output, view), output);
+    }
+
 }
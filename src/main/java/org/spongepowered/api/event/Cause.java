@@ -31,12 +31,12 @@
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.StringJoiner;
-import java.util.stream.Collectors;
 
 /**
  * A cause represents the reason or initiator of an event.
@@ -88,12 +88,8 @@ public static Cause of(final EventContext ctx, final Object cause) {
      */
     public static Cause of(final EventContext ctx, final Object cause, final Object... causes) {
         java.util.Objects.requireNonNull(ctx, "Context");
-        final Builder builder = Cause.builder();
-        builder.append(cause);
-        for (final Object namedCause : causes) {
-            builder.append(namedCause);
-        }
-        return builder.build(ctx);
+        java.util.Objects.requireNonNull(cause, "Cause cannot be null!");
+        return new Cause(Cause.append(new Object[] {cause}, causes), ctx);
     }
 
     /**
@@ -105,13 +101,15 @@ public static Cause of(final EventContext ctx, final Object cause, final Object.
      */
     public static Cause of(final EventContext ctx, final Iterable<Object> iterable) {
         java.util.Objects.requireNonNull(ctx, "Context");
-        final Builder builder = Cause.builder();
-        for (final Object cause : iterable) {
-            builder.append(cause);
+        final Object[] causes = Cause.append(Cause.EMPTY, Cause.toArray(iterable));
+        if (causes.length == 0) {
+            throw new IllegalStateException("Cannot create an empty Cause!");
         }
-        return builder.build(ctx);
+        return new Cause(causes, ctx);
     }
 
+    private static final Object[] EMPTY = new Object[0];
+
     final Object[] cause;
     private final EventContext context;
 
@@ -134,6 +132,18 @@ public static Cause of(final EventContext ctx, final Iterable<Object> iterable)
         this.context = ctx;
     }
 
+    /**
+     * Constructs a new cause from an array that is already validated and
+     * that is not shared with anything else, so it can be used as is.
+     *
+     * @param causes The causes
+     * @param ctx The event context
+     */
+    private Cause(final Object[] causes, final EventContext ctx) {
+        this.cause = causes;
+        this.context = ctx;
+    }
+
     /**
      * Constructs a new cause.
      *
@@ -289,7 +299,7 @@ public boolean contains(final Object object) {
      * @return An immutable list of the objects queried
      */
     public <T> List<T> allOf(final Class<T> target) {
-        return Arrays.stream(this.cause).filter(target::isInstance).map(entry -> (T) entry).collect(Collectors.toUnmodifiableList());
+        return (List<T>) this.filter(target, true);
     }
 
     /**
@@ -300,7 +310,30 @@ public <T> List<T> allOf(final Class<T> target) {
      * @return The list of objects not an instance of the provided class
      */
     public List<Object> noneOf(final Class<?> ignoredClass) {
-        return Arrays.stream(this.cause).filter(entry -> !ignoredClass.isInstance(entry)).collect(Collectors.toUnmodifiableList());
+        return this.filter(ignoredClass, false);
+    }
+
+    private List<Object> filter(final Class<?> target, final boolean instance) {
+        int count = 0;
+        for (final Object aCause : this.cause) {
+            if (target.isInstance(aCause) == instance) {
+                count++;
+            }
+        }
+        if (count == 0) {
+            return List.of();
+        }
+        if (count == this.cause.length) {
+            return this.all();
+        }
+        final Object[] matches = new Object[count];
+        int index = 0;
+        for (final Object aCause : this.cause) {
+            if (target.isInstance(aCause) == instance) {
+                matches[index++] = aCause;
+            }
+        }
+        return Collections.unmodifiableList(Arrays.asList(matches));
     }
 
     /**
@@ -324,9 +357,12 @@ public List<Object> all() {
      */
     public Cause with(final Object additional) {
         java.util.Objects.requireNonNull(additional, "No null arguments allowed!");
-        final List<Object> list = new ArrayList<>();
-        list.add(additional);
-        return this.with(list);
+        if (this.cause[this.cause.length - 1] == additional) {
+            return this;
+        }
+        final Object[] causes = Arrays.copyOf(this.cause, this.cause.length + 1);
+        causes[this.cause.length] = additional;
+        return new Cause(causes, this.context);
     }
 
     /**
@@ -339,13 +375,14 @@ public Cause with(final Object additional) {
      */
     public Cause with(final Object additional, final Object... additionals) {
         java.util.Objects.requireNonNull(additional, "No null arguments allowed!");
-        final List<Object> list = new ArrayList<>();
-        list.add(additional);
         for (final Object object : additionals) {
             java.util.Objects.requireNonNull(object, "Cannot add null objects!");
-            list.add(object);
         }
-        return this.with(list);
+        final Object[] appended = new Object[additionals.length + 1];
+        appended[0] = additional;
+        System.arraycopy(additionals, 0, appended, 1, additionals.length);
+        final Object[] causes = Cause.append(this.cause, appended);
+        return causes == this.cause ? this : new Cause(causes, this.context);
     }
 
     /**
@@ -356,12 +393,8 @@ public Cause with(final Object additional, final Object... additionals) {
      * @return The new cause
      */
     public Cause with(final Iterable<Object> iterable) {
-        final Cause.Builder builder = new Builder().from(this);
-        for (final Object o : iterable) {
-            java.util.Objects.requireNonNull(o, "Cannot add null causes");
-            builder.append(o);
-        }
-        return builder.build(this.context);
+        final Object[] causes = Cause.append(this.cause, Cause.toArray(iterable));
+        return causes == this.cause ? this : new Cause(causes, this.context);
     }
 
     /**
@@ -371,11 +404,46 @@ public Cause with(final Iterable<Object> iterable) {
      * @return The new merged cause
      */
     public Cause with(final Cause cause) {
-        final Cause.Builder builder = Cause.builder().from(this);
-        for (int i = 0; i < cause.cause.length; i++) {
-            builder.append(cause.cause[i]);
+        final Object[] causes = Cause.append(this.cause, cause.cause);
+        return causes == this.cause ? this : new Cause(causes, this.context);
+    }
+
+    /**
+     * Appends the given objects to a copy of the given causes, skipping any
+     * object that is identical to the one directly preceding it, just like
+     * {@link Builder#append(Object)} does.
+     *
+     * @param causes The causes
+     * @param additional The objects to append
+     * @return The new causes, or the same array if nothing was appended
+     */
+    private static Object[] append(final Object[] causes, final Object[] additional) {
+        if (additional.length == 0) {
+            return causes;
+        }
+        final Object[] result = Arrays.copyOf(causes, causes.length + additional.length);
+        int size = causes.length;
+        for (final Object object : additional) {
+            java.util.Objects.requireNonNull(object, "Cause cannot be null!");
+            if (size == 0 || result[size - 1] != object) {
+                result[size++] = object;
+            }
+        }
+        if (size == causes.length) {
+            return causes;
+        }
+        return size == result.length ? result : Arrays.copyOf(result, size);
+    }
+
+    private static Object[] toArray(final Iterable<Object> iterable) {
+        if (iterable instanceof Collection) {
+            return ((Collection<Object>) iterable).toArray();
+        }
+        final List<Object> list = new ArrayList<>();
+        for (final Object object : iterable) {
+            list.add(object);
         }
-        return builder.build(this.context);
+        return list.toArray();
     }
 
     @Override
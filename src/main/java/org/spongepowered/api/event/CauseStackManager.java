@@ -25,6 +25,7 @@
 package org.spongepowered.api.event;
 
 import java.util.NoSuchElementException;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Supplier;
 
@@ -41,12 +42,21 @@
  * <p>This system will automatically handle associating a plugin with actions
  * performed inside of event listeners, command executors, and scheduled
  * tasks.</p>
+ *
+ * <p>Implementations are expected to only materialize the immutable
+ * {@link Cause} and {@link EventContext} when they are requested, and to
+ * reuse the last materialized instances for as long as the stack is not
+ * modified, see {@link #stateVersion()}. Pushing and popping causes, context
+ * or frames should therefore not allocate either of them.</p>
  */
 public interface CauseStackManager {
 
     /**
      * Gets the current {@link Cause} object from the current cause stack.
      *
+     * <p>The same instance is returned for as long as the cause stack and
+     * context are not modified.</p>
+     *
      * @return A cause of the current stack.
      */
     Cause currentCause();
@@ -55,10 +65,25 @@ public interface CauseStackManager {
      * Gets an {@link EventContext} object on the current contextual
      * information.
      *
+     * <p>The same instance is returned for as long as the context is not
+     * modified.</p>
+     *
      * @return The current event context
      */
     EventContext currentContext();
 
+    /**
+     * Gets the version of the current state of this stack, which changes
+     * every time a cause, context value or frame is pushed or popped.
+     *
+     * <p>This may be used to cache anything derived from the
+     * {@link #currentCause() current cause} without having to compare
+     * causes.</p>
+     *
+     * @return The state version
+     */
+    long stateVersion();
+
     /**
      * Pushes an object to the current cause stack which will associate it with
      * all events through from api actions until it is popped off again.
@@ -98,6 +123,25 @@ public interface CauseStackManager {
      */
     StackFrame pushCauseFrame();
 
+    /**
+     * Pushes a frame of the current cause stack and context state, and then
+     * pushes the given object to the cause stack of the new frame.
+     *
+     * <p>This is intended to be used with a try-with-resources statement to
+     * scope a single cause to a block of code.</p>
+     *
+     * @param obj The object to push to the stack
+     * @return A handle for the frame which must be passed back to pop the frame
+     *         from the stack
+     * @see #pushCauseFrame()
+     */
+    default StackFrame pushCauseFrame(final Object obj) {
+        Objects.requireNonNull(obj, "obj");
+        final StackFrame frame = this.pushCauseFrame();
+        frame.pushCause(obj);
+        return frame;
+    }
+
     /**
      * Replaces the current cause stack and context with the cause frame at the
      * top of the frame stack.
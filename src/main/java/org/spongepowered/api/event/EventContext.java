@@ -28,7 +28,7 @@
 import org.spongepowered.api.util.CopyableBuilder;
 import org.spongepowered.api.util.annotation.DoNotStore;
 
-import java.util.HashMap;
+import java.util.Arrays;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Objects;
@@ -40,11 +40,17 @@
 /**
  * Provides context for an event outside of the direct chain of causes present
  * in the event's {@link Cause}.
+ *
+ * <p>Entries are stored in a pair of arrays sorted by
+ * {@link EventContextKey#ordinal()}, such that lookups are a binary search
+ * over a handful of integers and contexts can be copied cheaply.</p>
  */
 @DoNotStore
 public final class EventContext {
 
-    private static final EventContext EMPTY_CONTEXT = new EventContext(Map.of());
+    private static final EventContextKey<?>[] NO_KEYS = new EventContextKey<?>[0];
+    private static final Object[] NO_VALUES = new Object[0];
+    private static final EventContext EMPTY_CONTEXT = new EventContext(EventContext.NO_KEYS, EventContext.NO_VALUES);
 
     /**
      * Gets an empty context.
@@ -63,10 +69,12 @@ public static EventContext empty() {
      */
     public static EventContext of(Map<EventContextKey<?>, Object> entries) {
         Objects.requireNonNull(entries, "Context entries cannot be null");
+        final Builder builder = new Builder();
         for (Map.Entry<EventContextKey<?>, Object> entry : entries.entrySet()) {
             Objects.requireNonNull(entry.getValue(), "Entries cannot contain null values");
+            builder.put(entry.getKey(), entry.getValue());
         }
-        return new EventContext(entries);
+        return builder.build();
     }
 
     /**
@@ -78,10 +86,63 @@ public static Builder builder() {
         return new Builder();
     }
 
-    private final Map<EventContextKey<?>, Object> entries;
+    /**
+     * Finds the index of the given key within the first {@code size} entries
+     * of the given keys, sorted by ordinal.
+     *
+     * @param keys The sorted keys
+     * @param size The amount of keys in use
+     * @param key The key to find
+     * @return The index, or {@code -(insertion point) - 1} if absent
+     */
+    static int indexOf(final EventContextKey<?>[] keys, final int size, final EventContextKey<?> key) {
+        final int ordinal = key.ordinal();
+        int low = 0;
+        int high = size - 1;
+        while (low <= high) {
+            final int mid = (low + high) >>> 1;
+            final int midOrdinal = keys[mid].ordinal();
+            if (midOrdinal < ordinal) {
+                low = mid + 1;
+            } else if (midOrdinal > ordinal) {
+                high = mid - 1;
+            } else {
+                return EventContext.scanOrdinal(keys, size, key, mid);
+            }
+        }
+        return -(low + 1);
+    }
 
-    EventContext(Map<EventContextKey<?>, Object> values) {
-        this.entries = Map.copyOf(values);
+    // Ordinals are expected to be unique, but stay correct if they are not
+    private static int scanOrdinal(final EventContextKey<?>[] keys, final int size, final EventContextKey<?> key, final int mid) {
+        final int ordinal = keys[mid].ordinal();
+        int start = mid;
+        while (start > 0 && keys[start - 1].ordinal() == ordinal) {
+            start--;
+        }
+        int index = start;
+        for (; index < size && keys[index].ordinal() == ordinal; index++) {
+            if (keys[index] == key || keys[index].equals(key)) {
+                return index;
+            }
+        }
+        return -(index + 1);
+    }
+
+    private final EventContextKey<?>[] keys;
+    private final Object[] values;
+
+    // lazy load
+    private @Nullable Map<EventContextKey<?>, Object> map;
+
+    private EventContext(final EventContextKey<?>[] keys, final Object[] values) {
+        this.keys = keys;
+        this.values = values;
+    }
+
+    private @Nullable Object value(final EventContextKey<?> key) {
+        final int index = EventContext.indexOf(this.keys, this.keys.length, key);
+        return index < 0 ? null : this.values[index];
     }
 
     /**
@@ -94,7 +155,7 @@ public static Builder builder() {
     @SuppressWarnings("unchecked")
     public <T> Optional<T> get(EventContextKey<T> key) {
         Objects.requireNonNull(key, "EventContextKey cannot be null");
-        return Optional.ofNullable((T) this.entries.get(key));
+        return Optional.ofNullable((T) this.value(key));
     }
 
     /**
@@ -107,7 +168,7 @@ public <T> Optional<T> get(EventContextKey<T> key) {
     @SuppressWarnings("unchecked")
     public <T> Optional<T> get(Supplier<EventContextKey<T>> key) {
         Objects.requireNonNull(key, "EventContextKey cannot be null");
-        return Optional.ofNullable((T) this.entries.get(key.get()));
+        return Optional.ofNullable((T) this.value(key.get()));
     }
 
     /**
@@ -154,7 +215,7 @@ public <T> T require(Supplier<EventContextKey<T>> key) {
      * @return True if the key is used and there is an entry for it
      */
     public boolean containsKey(EventContextKey<?> key) {
-        return this.entries.containsKey(key);
+        return EventContext.indexOf(this.keys, this.keys.length, key) >= 0;
     }
 
     /**
@@ -165,7 +226,7 @@ public boolean containsKey(EventContextKey<?> key) {
      * @return True if the key is used and there is an entry for it
      */
     public boolean containsKey(Supplier<? extends EventContextKey<?>> key) {
-        return this.entries.containsKey(key.get());
+        return this.containsKey(key.get());
     }
 
     /**
@@ -174,7 +235,7 @@ public boolean containsKey(Supplier<? extends EventContextKey<?>> key) {
      * @return All present keys
      */
     public Set<EventContextKey<?>> keySet() {
-        return this.entries.keySet();
+        return this.asMap().keySet();
     }
 
     /**
@@ -182,8 +243,16 @@ public Set<EventContextKey<?>> keySet() {
      *
      * @return A map view of this context
      */
+    @SuppressWarnings("unchecked")
     public Map<EventContextKey<?>, Object> asMap() {
-        return this.entries;
+        if (this.map == null) {
+            final Map.Entry<EventContextKey<?>, Object>[] entries = new Map.Entry[this.keys.length];
+            for (int i = 0; i < this.keys.length; i++) {
+                entries[i] = Map.entry(this.keys[i], this.values[i]);
+            }
+            this.map = Map.ofEntries(entries);
+        }
+        return this.map;
     }
 
     @Override
@@ -195,12 +264,12 @@ public boolean equals(@Nullable Object object) {
             return false;
         }
         final EventContext ctx = (EventContext) object;
-        for (Map.Entry<EventContextKey<?>, Object> entry : this.entries.entrySet()) {
-            final Object other = ctx.entries.get(entry.getKey());
-            if (other == null) {
-                return false;
-            }
-            if (!entry.getValue().equals(other)) {
+        if (this.keys.length != ctx.keys.length) {
+            return false;
+        }
+        for (int i = 0; i < this.keys.length; i++) {
+            final Object other = ctx.value(this.keys[i]);
+            if (other == null || !this.values[i].equals(other)) {
                 return false;
             }
         }
@@ -209,14 +278,19 @@ public boolean equals(@Nullable Object object) {
 
     @Override
     public int hashCode() {
-        return this.entries.hashCode();
+        // Same as Map#hashCode, see asMap()
+        int hash = 0;
+        for (int i = 0; i < this.keys.length; i++) {
+            hash += this.keys[i].hashCode() ^ this.values[i].hashCode();
+        }
+        return hash;
     }
 
     @Override
     public String toString() {
         final StringJoiner joiner = new StringJoiner(", ");
-        for (Map.Entry<EventContextKey<?>, Object> entry : this.entries.entrySet()) {
-            joiner.add("\"" + entry.getKey().toString() + "\"=" + entry.getValue().toString());
+        for (int i = 0; i < this.keys.length; i++) {
+            joiner.add("\"" + this.keys[i].toString() + "\"=" + this.values[i].toString());
         }
         return "Context[" + joiner.toString() + "]";
     }
@@ -224,7 +298,12 @@ public String toString() {
     public static final class Builder implements org.spongepowered.api.util.Builder<EventContext, Builder>, CopyableBuilder<EventContext,
         Builder> {
 
-        private final Map<EventContextKey<?>, Object> entries = new HashMap<>();
+        private EventContextKey<?>[] keys = EventContext.NO_KEYS;
+        private Object[] values = EventContext.NO_VALUES;
+        private int size;
+
+        // The context this builder is an unmodified copy of, if any
+        private @Nullable EventContext source;
 
         Builder() {
 
@@ -240,10 +319,9 @@ public static final class Builder implements org.spongepowered.api.util.Builder<
          */
         public <T> Builder add(EventContextKey<T> key, T value) {
             Objects.requireNonNull(value, "Context object cannot be null");
-            if (this.entries.containsKey(key)) {
+            if (!this.put(key, value)) {
                 throw new IllegalArgumentException("Duplicate context keys: " + key.toString());
             }
-            this.entries.put(key, value);
             return this;
         }
 
@@ -260,22 +338,65 @@ public <T> Builder add(Supplier<EventContextKey<T>> key, T value) {
             Objects.requireNonNull(value, "Context object cannot be null");
             final EventContextKey<T> suppliedKey = key.get();
             Objects.requireNonNull(suppliedKey, "Supplied key cannot be null!");
-            if (this.entries.containsKey(suppliedKey)) {
+            if (!this.put(suppliedKey, value)) {
                 throw new IllegalArgumentException("Duplicate context keys!");
             }
-            this.entries.put(suppliedKey, value);
             return this;
         }
 
+        boolean put(final EventContextKey<?> key, final Object value) {
+            Objects.requireNonNull(key, "EventContextKey cannot be null");
+            final int index = EventContext.indexOf(this.keys, this.size, key);
+            if (index >= 0) {
+                return false;
+            }
+            final int insertion = -(index + 1);
+            this.ensureWritable(this.size + 1);
+            System.arraycopy(this.keys, insertion, this.keys, insertion + 1, this.size - insertion);
+            System.arraycopy(this.values, insertion, this.values, insertion + 1, this.size - insertion);
+            this.keys[insertion] = key;
+            this.values[insertion] = value;
+            this.size++;
+            return true;
+        }
+
+        private void ensureWritable(final int capacity) {
+            // Never write into arrays shared with a built context
+            if (this.source != null || capacity > this.keys.length) {
+                final int length = Math.max(capacity, Math.max(4, this.size * 2));
+                this.keys = Arrays.copyOf(this.keys, length);
+                this.values = Arrays.copyOf(this.values, length);
+                this.source = null;
+            }
+        }
+
         @Override
         public Builder from(EventContext value) {
-            this.entries.putAll(value.entries);
+            if (this.size == 0) {
+                this.keys = value.keys;
+                this.values = value.values;
+                this.size = value.keys.length;
+                this.source = value;
+                return this;
+            }
+            for (int i = 0; i < value.keys.length; i++) {
+                final int index = EventContext.indexOf(this.keys, this.size, value.keys[i]);
+                if (index >= 0) {
+                    this.ensureWritable(this.size);
+                    this.values[index] = value.values[i];
+                } else {
+                    this.put(value.keys[i], value.values[i]);
+                }
+            }
             return this;
         }
 
         @Override
         public Builder reset() {
-            this.entries.clear();
+            this.keys = EventContext.NO_KEYS;
+            this.values = EventContext.NO_VALUES;
+            this.size = 0;
+            this.source = null;
             return this;
         }
 
@@ -286,7 +407,18 @@ public Builder reset() {
          */
         @Override
         public EventContext build() {
-            return new EventContext(this.entries);
+            if (this.source != null) {
+                return this.source;
+            }
+            if (this.size == 0) {
+                return EventContext.EMPTY_CONTEXT;
+            }
+            final EventContext context = new EventContext(Arrays.copyOf(this.keys, this.size), Arrays.copyOf(this.values, this.size));
+            // The arrays of the built context can be shared as long as this builder is unmodified
+            this.keys = context.keys;
+            this.values = context.values;
+            this.source = context;
+            return context;
         }
 
     }
@@ -59,6 +59,15 @@ static Builder<?> builder() {
      */
     Type allowedType();
 
+    /**
+     * Gets the ordinal of this key, which {@link EventContext} uses to store
+     * its entries in sorted arrays. Ordinals are assigned the same way as
+     * {@link org.spongepowered.api.data.Key#ordinal() data key ordinals}.
+     *
+     * @return The ordinal
+     */
+    int ordinal();
+
     /**
      * Return whether the value is an instance of this key's value type.
      *
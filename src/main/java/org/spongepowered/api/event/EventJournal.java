@@ -0,0 +1,412 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.event;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.api.data.persistence.DataContainer;
+import org.spongepowered.api.data.persistence.DataFormat;
+import org.spongepowered.api.data.persistence.DataFormats;
+import org.spongepowered.api.data.persistence.DataSerializable;
+import org.spongepowered.api.data.persistence.DataView;
+import org.spongepowered.api.data.persistence.InvalidDataException;
+import org.spongepowered.api.data.persistence.Queries;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.StringJoiner;
+import java.util.function.Function;
+
+/**
+ * A journal of the events posted to an {@link EventManager}, recording the
+ * shape of each event rather than the event itself, such that production
+ * event storms can be reproduced offline.
+ *
+ * <p>A journal is written as a sequence of length prefixed frames, each frame
+ * holding a batch of {@link Entry entries} serialized with a
+ * {@link DataFormat}, which is {@link DataFormats#NBT} by default.</p>
+ *
+ * @see EventManager#startRecording(Writer)
+ */
+public final class EventJournal {
+
+    /**
+     * The amount of entries buffered by a {@link Writer} before a frame is
+     * written.
+     */
+    private static final int FRAME_SIZE = 512;
+
+    /**
+     * Reads all entries of the journal from the given stream, using
+     * {@link DataFormats#NBT}.
+     *
+     * @param input The input stream
+     * @return The entries, in the order they were recorded
+     * @throws IOException If reading from the stream fails
+     * @throws InvalidDataException If the journal is malformed
+     */
+    public static List<Entry> read(final InputStream input) throws IOException {
+        return EventJournal.read(input, DataFormats.NBT.get());
+    }
+
+    /**
+     * Reads all entries of the journal from the given stream.
+     *
+     * @param input The input stream
+     * @param format The format the journal was written with
+     * @return The entries, in the order they were recorded
+     * @throws IOException If reading from the stream fails
+     * @throws InvalidDataException If the journal is malformed
+     */
+    public static List<Entry> read(final InputStream input, final DataFormat format) throws IOException {
+        Objects.requireNonNull(input, "input");
+        Objects.requireNonNull(format, "format");
+        final DataInputStream data = new DataInputStream(input);
+        final List<Entry> entries = new ArrayList<>();
+        while (true) {
+            final int length;
+            try {
+                length = data.readInt();
+            } catch (final EOFException ignored) {
+                return entries;
+            }
+            final byte[] frame = new byte[length];
+            data.readFully(frame);
+            final DataContainer container = format.readFrom(new ByteArrayInputStream(frame));
+            for (final DataView view : container.getViewList(Queries.JOURNAL_EVENTS)
+                .orElseThrow(() -> new InvalidDataException("Journal frame without events"))) {
+                entries.add(Entry.from(view));
+            }
+        }
+    }
+
+    /**
+     * Replays the given entries, in order, by posting the event created by
+     * the given factory for each of them.
+     *
+     * <p>Replays are deterministic: the recorded timing is not reproduced and
+     * every entry is handled on the calling thread. The factory, typically
+     * backed by {@code SpongeEventFactory}, may return {@code null} to skip an
+     * entry it cannot create an equivalent event for.</p>
+     *
+     * @param entries The entries to replay
+     * @param factory The factory creating a synthetic event for an entry
+     * @param eventManager The event manager to post the events to
+     * @return The amount of events posted
+     */
+    public static int replay(final Iterable<Entry> entries, final Function<? super Entry, ? extends @Nullable Event> factory,
+        final EventManager eventManager) {
+        Objects.requireNonNull(entries, "entries");
+        Objects.requireNonNull(factory, "factory");
+        Objects.requireNonNull(eventManager, "eventManager");
+        int posted = 0;
+        for (final Entry entry : entries) {
+            final @Nullable Event event = factory.apply(entry);
+            if (event != null) {
+                eventManager.post(event);
+                posted++;
+            }
+        }
+        return posted;
+    }
+
+    private EventJournal() {
+    }
+
+    /**
+     * The recorded shape of a single posted event.
+     */
+    public static final class Entry implements DataSerializable {
+
+        /**
+         * Creates an entry describing the given event.
+         *
+         * @param event The event
+         * @param timestamp The time the event was posted at, in nanoseconds
+         *     relative to the start of the recording
+         * @param duration The time spent posting the event, in nanoseconds
+         * @param cancelled Whether the event ended up cancelled
+         * @return The entry
+         */
+        public static Entry of(final Event event, final long timestamp, final long duration, final boolean cancelled) {
+            final Cause cause = event.cause();
+            final List<String> causeTypes = new ArrayList<>(cause.cause.length);
+            for (final Object object : cause.cause) {
+                causeTypes.add(object.getClass().getName());
+            }
+            final List<String> contextKeys = new ArrayList<>();
+            for (final EventContextKey<?> key : cause.context().keySet()) {
+                contextKeys.add(key.key().formatted());
+            }
+            return new Entry(event.getClass().getName(), causeTypes, contextKeys, timestamp, duration, cancelled);
+        }
+
+        /**
+         * Reads an entry from the given view.
+         *
+         * @param view The view
+         * @return The entry
+         * @throws InvalidDataException If the view does not describe an entry
+         */
+        public static Entry from(final DataView view) {
+            Objects.requireNonNull(view, "view");
+            return new Entry(
+                view.getString(Queries.JOURNAL_EVENT_TYPE).orElseThrow(() -> new InvalidDataException("Missing event type")),
+                view.getStringList(Queries.JOURNAL_CAUSE).orElseThrow(() -> new InvalidDataException("Missing cause")),
+                view.getStringList(Queries.JOURNAL_CONTEXT).orElse(List.of()),
+                view.getLong(Queries.JOURNAL_TIMESTAMP).orElse(0L),
+                view.getLong(Queries.JOURNAL_DURATION).orElse(0L),
+                view.getBoolean(Queries.JOURNAL_CANCELLED).orElse(false)
+            );
+        }
+
+        private final String eventType;
+        private final List<String> causeTypes;
+        private final List<String> contextKeys;
+        private final long timestamp;
+        private final long duration;
+        private final boolean cancelled;
+
+        public Entry(final String eventType, final List<String> causeTypes, final List<String> contextKeys, final long timestamp,
+            final long duration, final boolean cancelled) {
+            this.eventType = Objects.requireNonNull(eventType, "eventType");
+            this.causeTypes = List.copyOf(causeTypes);
+            this.contextKeys = List.copyOf(contextKeys);
+            this.timestamp = timestamp;
+            this.duration = duration;
+            this.cancelled = cancelled;
+        }
+
+        /**
+         * Gets the binary name of the class of the recorded event.
+         *
+         * @return The event type
+         */
+        public String eventType() {
+            return this.eventType;
+        }
+
+        /**
+         * Gets the binary names of the classes of the objects in the cause of
+         * the recorded event, in order.
+         *
+         * @return The cause types
+         */
+        public List<String> causeTypes() {
+            return this.causeTypes;
+        }
+
+        /**
+         * Gets the keys of the {@link EventContextKey}s present in the context
+         * of the recorded event.
+         *
+         * @return The context keys
+         */
+        public List<String> contextKeys() {
+            return this.contextKeys;
+        }
+
+        /**
+         * Gets the time the event was posted at, in nanoseconds relative to
+         * the start of the recording.
+         *
+         * @return The timestamp
+         */
+        public long timestamp() {
+            return this.timestamp;
+        }
+
+        /**
+         * Gets the time spent posting the event to all listeners, in
+         * nanoseconds.
+         *
+         * @return The duration
+         */
+        public long duration() {
+            return this.duration;
+        }
+
+        /**
+         * Gets whether the event ended up cancelled.
+         *
+         * @return Whether the event was cancelled
+         */
+        public boolean cancelled() {
+            return this.cancelled;
+        }
+
+        @Override
+        public int contentVersion() {
+            return 1;
+        }
+
+        @Override
+        public DataContainer toContainer() {
+            return DataContainer.createNew()
+                .set(Queries.CONTENT_VERSION, this.contentVersion())
+                .set(Queries.JOURNAL_EVENT_TYPE, this.eventType)
+                .set(Queries.JOURNAL_CAUSE, this.causeTypes)
+                .set(Queries.JOURNAL_CONTEXT, this.contextKeys)
+                .set(Queries.JOURNAL_TIMESTAMP, this.timestamp)
+                .set(Queries.JOURNAL_DURATION, this.duration)
+                .set(Queries.JOURNAL_CANCELLED, this.cancelled);
+        }
+
+        @Override
+        public boolean equals(final @Nullable Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Entry)) {
+                return false;
+            }
+            final Entry other = (Entry) obj;
+            return this.timestamp == other.timestamp
+                && this.duration == other.duration
+                && this.cancelled == other.cancelled
+                && this.eventType.equals(other.eventType)
+                && this.causeTypes.equals(other.causeTypes)
+                && this.contextKeys.equals(other.contextKeys);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(this.eventType, this.causeTypes, this.contextKeys, this.timestamp, this.duration, this.cancelled);
+        }
+
+        @Override
+        public String toString() {
+            return new StringJoiner(", ", Entry.class.getSimpleName() + "[", "]")
+                .add("eventType=" + this.eventType)
+                .add("causeTypes=" + this.causeTypes)
+                .add("contextKeys=" + this.contextKeys)
+                .add("timestamp=" + this.timestamp)
+                .add("duration=" + this.duration)
+                .add("cancelled=" + this.cancelled)
+                .toString();
+        }
+    }
+
+    /**
+     * Writes {@link Entry entries} to a journal.
+     *
+     * <p>Entries are buffered and written in frames, closing the writer
+     * writes any remaining entries and closes the underlying stream.</p>
+     */
+    public static final class Writer implements Closeable {
+
+        private final DataOutputStream output;
+        private final DataFormat format;
+        private final List<DataView> buffer = new ArrayList<>(EventJournal.FRAME_SIZE);
+
+        /**
+         * Creates a writer using {@link DataFormats#NBT}.
+         *
+         * @param output The output stream
+         */
+        public Writer(final OutputStream output) {
+            this(output, DataFormats.NBT.get());
+        }
+
+        /**
+         * Creates a writer using the given format.
+         *
+         * @param output The output stream
+         * @param format The format to write frames with
+         */
+        public Writer(final OutputStream output, final DataFormat format) {
+            this.output = new DataOutputStream(Objects.requireNonNull(output, "output"));
+            this.format = Objects.requireNonNull(format, "format");
+        }
+
+        /**
+         * Writes the given entry to the journal.
+         *
+         * @param entry The entry
+         * @throws IOException If writing a frame fails
+         */
+        public synchronized void write(final Entry entry) throws IOException {
+            this.buffer.add(Objects.requireNonNull(entry, "entry").toContainer());
+            if (this.buffer.size() >= EventJournal.FRAME_SIZE) {
+                this.flush();
+            }
+        }
+
+        /**
+         * Writes all buffered entries as a frame.
+         *
+         * @throws IOException If writing the frame fails
+         */
+        public synchronized void flush() throws IOException {
+            if (this.buffer.isEmpty()) {
+                return;
+            }
+            final ByteArrayOutputStream frame = new ByteArrayOutputStream();
+            this.format.writeTo(frame, DataContainer.createNew().set(Queries.JOURNAL_EVENTS, this.buffer));
+            this.buffer.clear();
+            this.output.writeInt(frame.size());
+            frame.writeTo(this.output);
+            this.output.flush();
+        }
+
+        @Override
+        public synchronized void close() throws IOException {
+            try {
+                this.flush();
+            } finally {
+                this.output.close();
+            }
+        }
+    }
+
+    /**
+     * An ongoing recording of the events posted to an {@link EventManager}.
+     */
+    public interface Recording extends AutoCloseable {
+
+        /**
+         * Gets the amount of events recorded so far.
+         *
+         * @return The amount of recorded events
+         */
+        long recordedEvents();
+
+        /**
+         * Stops recording. This does not close the {@link Writer} the events
+         * were recorded into.
+         */
+        @Override
+        void close();
+    }
+}
@@ -0,0 +1,231 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.event;
+
+import org.spongepowered.api.data.persistence.DataContainer;
+import org.spongepowered.api.data.persistence.Queries;
+import org.spongepowered.plugin.PluginContainer;
+
+import java.lang.reflect.Type;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.OptionalLong;
+
+/**
+ * Collects timing and allocation statistics of the listeners registered
+ * to an {@link EventManager}.
+ *
+ * <p>Collection is sampled, with a {@link #sampleRate() sample rate} of
+ * {@code 0} disabling timing entirely. While disabled, only the plain
+ * invocation counters are maintained, such that the cost of having metrics
+ * available is close to zero.</p>
+ *
+ * @see EventManager#metrics()
+ */
+public interface EventListenerMetrics {
+
+    /**
+     * Gets the fraction of listener invocations that are timed, between
+     * {@code 0} (disabled) and {@code 1} (every invocation).
+     *
+     * @return The sample rate
+     */
+    double sampleRate();
+
+    /**
+     * Sets the fraction of listener invocations that are timed.
+     *
+     * @param sampleRate The sample rate, between {@code 0} and {@code 1}
+     * @return This metrics instance, for chaining
+     * @throws IllegalArgumentException If the rate is outside of the
+     *     accepted range
+     */
+    EventListenerMetrics sampleRate(double sampleRate);
+
+    /**
+     * Gets whether the bytes allocated by the invoking thread are tracked
+     * for sampled invocations.
+     *
+     * <p>Allocation tracking is not available on every runtime, in which
+     * case {@link Statistics#allocatedBytes()} stays empty.</p>
+     *
+     * @return Whether allocations are tracked
+     */
+    boolean tracksAllocations();
+
+    /**
+     * Sets whether the bytes allocated by the invoking thread are tracked
+     * for sampled invocations.
+     *
+     * @param trackAllocations Whether allocations are tracked
+     * @return This metrics instance, for chaining
+     */
+    EventListenerMetrics trackAllocations(boolean trackAllocations);
+
+    /**
+     * Gets the statistics of all currently registered listeners.
+     *
+     * @return The statistics
+     */
+    Collection<Statistics> statistics();
+
+    /**
+     * Gets the statistics of all currently registered listeners of the given
+     * {@link PluginContainer plugin}.
+     *
+     * @param plugin The plugin
+     * @return The statistics
+     */
+    Collection<Statistics> statistics(PluginContainer plugin);
+
+    /**
+     * Gets the statistics of the given listener registration, if it is
+     * currently registered.
+     *
+     * @param registration The registration
+     * @return The statistics, if available
+     */
+    Optional<Statistics> statistics(EventListenerRegistration<?> registration);
+
+    /**
+     * Resets all collected statistics.
+     */
+    void reset();
+
+    /**
+     * Creates a snapshot of all currently collected statistics, suitable to
+     * be exported through a {@link org.spongepowered.api.data.persistence.DataFormat}.
+     *
+     * <p>The container holds the {@link Queries#METRICS_SAMPLE_RATE sample rate}
+     * and a list of {@link Queries#LISTENER_STATISTICS listener statistics},
+     * each entry being keyed by the {@code LISTENER_*} queries defined in
+     * {@link Queries}, such as {@link Queries#LISTENER_PLUGIN} and
+     * {@link Queries#LISTENER_INVOCATIONS}.</p>
+     *
+     * @return The snapshot
+     */
+    DataContainer snapshot();
+
+    /**
+     * The statistics of a single {@link EventListenerRegistration}.
+     */
+    interface Statistics {
+
+        /**
+         * Gets the registration these statistics belong to.
+         *
+         * @return The registration
+         */
+        EventListenerRegistration<?> registration();
+
+        /**
+         * Gets the plugin that registered the listener.
+         *
+         * @return The plugin
+         */
+        default PluginContainer plugin() {
+            return this.registration().plugin();
+        }
+
+        /**
+         * Gets the event type the listener is registered for.
+         *
+         * @return The event type
+         */
+        default Type eventType() {
+            return this.registration().eventType();
+        }
+
+        /**
+         * Gets the order the listener is registered at.
+         *
+         * @return The order
+         */
+        default Order order() {
+            return this.registration().order();
+        }
+
+        /**
+         * Gets the total amount of times the listener was invoked.
+         *
+         * @return The invocation count
+         */
+        long invocations();
+
+        /**
+         * Gets the amount of invocations that were sampled for timing.
+         *
+         * @return The sampled invocation count
+         */
+        long sampledInvocations();
+
+        /**
+         * Gets the cumulative wall time of all sampled invocations.
+         *
+         * @return The total time
+         */
+        Duration totalTime();
+
+        /**
+         * Gets the longest wall time of a single sampled invocation.
+         *
+         * @return The maximum time
+         */
+        Duration maxTime();
+
+        /**
+         * Gets the wall time at the given percentile of all sampled
+         * invocations, such as {@code 99.9}.
+         *
+         * <p>Percentiles are recorded in a histogram, as such the returned
+         * value is an approximation.</p>
+         *
+         * @param percentile The percentile, between {@code 0} and {@code 100}
+         * @return The time at the percentile
+         * @throws IllegalArgumentException If the percentile is outside of the
+         *     accepted range
+         */
+        Duration percentile(double percentile);
+
+        /**
+         * Gets the cumulative amount of bytes allocated by the invoking thread
+         * during sampled invocations.
+         *
+         * @return The allocated bytes, if allocations are tracked
+         * @see EventListenerMetrics#tracksAllocations()
+         */
+        OptionalLong allocatedBytes();
+
+        /**
+         * Gets the amount of events that were not delivered to the listener
+         * because its {@link EventListenerRegistration#asyncExecutor() executor}
+         * rejected them. This is always {@code 0} for synchronous listeners.
+         *
+         * @return The rejected execution count
+         */
+        long rejectedExecutions();
+    }
+}
@@ -31,6 +31,8 @@
 
 import java.lang.reflect.Type;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.Executor;
 
 /**
  * Represents the composition of a {@link EventListener listener} and the attributes that define it
@@ -58,6 +60,15 @@ static <T extends Event> EventListenerRegistration.Builder<T> builder(final Clas
 
     EventListener<? super T> listener();
 
+    /**
+     * Gets the {@link Executor} this listener is handed off to, if it was
+     * registered as an asynchronous observer.
+     *
+     * @return The executor, if the listener is asynchronous
+     * @see Listener#async()
+     */
+    Optional<Executor> asyncExecutor();
+
     interface Builder<T extends Event> extends ResettableBuilder<EventListenerRegistration<T>, Builder<T>> {
 
         Builder<T> plugin(PluginContainer plugin);
@@ -68,6 +79,31 @@ static <T extends Event> EventListenerRegistration.Builder<T> builder(final Clas
 
         Builder<T> listener(EventListener<? super T> listener);
 
+        /**
+         * Marks the listener as an asynchronous observer, which will be
+         * invoked on the given {@link Executor} rather than on the thread
+         * the event was posted on.
+         *
+         * <p>The executor should be bounded, events that cannot be accepted
+         * by it are dropped for this listener rather than blocking the
+         * posting thread. {@link Cancellable} events are never handed to
+         * asynchronous listeners, even if their event type is a supertype
+         * of the cancellable event.</p>
+         *
+         * @param executor The executor
+         * @return This builder, for chaining
+         * @see Listener#async()
+         */
+        Builder<T> async(Executor executor);
+
+        /**
+         * Builds the registration.
+         *
+         * @return The registration
+         * @throws IllegalStateException If the listener was marked as
+         *     {@link #async(Executor) asynchronous} while its event type is
+         *     {@link Cancellable}
+         */
         EventListenerRegistration<T> build();
     }
 
@@ -27,6 +27,9 @@
 import org.spongepowered.plugin.PluginContainer;
 
 import java.lang.invoke.MethodHandles;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Supplier;
 
 /**
  * Manages the registration of event listeners and the dispatching of events.
@@ -81,12 +84,94 @@ public interface EventManager {
      */
     EventManager unregisterListeners(Object obj);
 
+    /**
+     * Gets whether any listener is currently registered that would receive
+     * an event of the given type, including listeners registered for any
+     * of its supertypes.
+     *
+     * <p>Implementations are expected to keep, per concrete event type, a
+     * precomputed and immutable table of listeners sorted by
+     * {@link Order} and {@link Listener#beforeModifications()}, which is
+     * only rebuilt when {@link #registerListener(EventListenerRegistration)}
+     * or {@link #unregisterListeners(Object)} is called. As such, this
+     * check is intended to be cheap enough to be used on hot paths in
+     * order to skip constructing an event and its {@link Cause} entirely
+     * when nothing would observe it.</p>
+     *
+     * <p>Note that the result is only a snapshot, listeners may be
+     * registered or unregistered afterwards.</p>
+     *
+     * @param eventType The event type
+     * @return True if at least one listener would receive the event
+     */
+    boolean hasListeners(Class<? extends Event> eventType);
+
+    /**
+     * Gets the {@link EventListenerMetrics} collecting per listener statistics
+     * of this manager.
+     *
+     * @return The metrics
+     */
+    EventListenerMetrics metrics();
+
+    /**
+     * Starts recording an {@link EventJournal.Entry} for every event posted
+     * to this manager into the given writer, until the returned recording is
+     * closed.
+     *
+     * <p>Recording is opt-in and has no cost while no recording is active.
+     * Failures to write to the journal stop the recording rather than
+     * affecting the posted events.</p>
+     *
+     * @param writer The writer to record into
+     * @return The recording
+     */
+    EventJournal.Recording startRecording(EventJournal.Writer writer);
+
     /**
      * Calls an {@link Event} to all listeners that listen to it.
      *
+     * <p>Listeners are invoked from the dispatch table of the concrete
+     * event type, see {@link #hasListeners(Class)}. Posting an event for
+     * which no listeners are registered is expected to be close to free.</p>
+     *
      * @param event The event
      * @return True if cancelled, false if not
      */
     boolean post(Event event);
 
+    /**
+     * Calls an {@link Event} to all listeners that listen to it, but only
+     * constructs the event if there is at least one such listener.
+     *
+     * <p>The provided factory is only invoked if
+     * {@link #hasListeners(Class)} returns {@code true} for the given event
+     * type, so any {@link Cause}, {@link EventContext} or transaction lists
+     * needed by the event should be created within the factory in order to
+     * avoid allocating them for events nobody observes.</p>
+     *
+     * <p>As {@link #hasListeners(Class)} only considers listeners of the
+     * given type and its supertypes, the event type must be the most
+     * specific event interface the factory creates. Listeners registered
+     * for a subtype of the given type are not considered, so a factory
+     * creating such a subtype may have its event skipped although those
+     * listeners would have received it.</p>
+     *
+     * @param eventType The exact event type created by the factory
+     * @param factory The factory creating the event
+     * @param <E> The event type
+     * @return The event that was posted, or {@link Optional#empty()} if no
+     *     listeners were registered and the event was never constructed
+     */
+    default <E extends Event> Optional<E> postIfListened(final Class<E> eventType, final Supplier<E> factory) {
+        Objects.requireNonNull(eventType, "eventType");
+        Objects.requireNonNull(factory, "factory");
+        if (!this.hasListeners(eventType)) {
+            return Optional.empty();
+        }
+        final E event = Objects.requireNonNull(factory.get(), "event");
+        this.post(event);
+        return Optional.of(event);
+    }
+
 }
@@ -53,4 +53,29 @@
      */
     boolean beforeModifications() default false;
 
+    /**
+     * Whether this listener should be invoked asynchronously, off of the
+     * thread the event was posted on.
+     *
+     * <p>Asynchronous listeners are handed off to a bounded executor provided
+     * by the implementation and are only suited for pure observers, such as
+     * logging, analytics or auditing. By the time the listener is invoked,
+     * the event may already have been fully processed, so any modification
+     * made to it will have no effect. As such, asynchronous listeners may
+     * not listen to {@link Cancellable} events, nor use parameter filters
+     * that depend on synchronous state, such as
+     * {@link org.spongepowered.api.event.filter.Getter}, the cause filters
+     * or the data filters, such as
+     * {@link org.spongepowered.api.event.filter.data.GetValue}.</p>
+     *
+     * <p>Events are delivered to an asynchronous listener only if they are
+     * not {@link Cancellable}. A listener for a supertype such as
+     * {@link Event} therefore still receives every non-cancellable event,
+     * while cancellable ones are skipped for it.</p>
+     *
+     * @return If the listener should be invoked asynchronously
+     * @see EventListenerRegistration.Builder#async(java.util.concurrent.Executor)
+     */
+    boolean async() default false;
+
 }
@@ -29,6 +29,7 @@
 import org.spongepowered.api.block.BlockType;
 import org.spongepowered.api.block.BlockTypes;
 import org.spongepowered.api.block.entity.BlockEntity;
+import org.spongepowered.api.block.transaction.BlockChangeBatch;
 import org.spongepowered.api.block.transaction.BlockTransaction;
 import org.spongepowered.api.block.transaction.BlockTransactionReceipt;
 import org.spongepowered.api.block.transaction.Operation;
@@ -159,6 +160,31 @@ default void invalidateAll() {
         }
     }
 
+    /**
+     * Called when a bulk operation, such as pasting a schematic, applying an
+     * archetype volume or an explosion, is about to change a large amount of
+     * blocks at once.
+     *
+     * <p>Unlike {@link All}, the changes are exposed as a columnar
+     * {@link BlockChangeBatch} instead of a list of {@link BlockTransaction}s,
+     * so that no {@link BlockSnapshot} has to be created for each changed
+     * block. Changes can be filtered in bulk, for example with
+     * {@link BlockChangeBatch#invalidate(org.spongepowered.api.util.AABB)} or
+     * {@link BlockChangeBatch#invalidateReplacements(BlockType)}.</p>
+     *
+     * <p>Cancelling this event will prevent all changes of the batch from
+     * being applied.</p>
+     */
+    interface Batch extends ChangeBlockEvent, Cancellable {
+
+        /**
+         * Gets the changes of this batch.
+         *
+         * @return The changes
+         */
+        BlockChangeBatch changes();
+    }
+
     /**
      * Called when there are multiple block changes due to a
      * {@link BlockType} having "ticked", in which the {@link Cause} will
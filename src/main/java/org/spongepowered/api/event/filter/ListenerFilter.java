@@ -0,0 +1,72 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.event.filter;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.api.event.Event;
+import org.spongepowered.api.event.Listener;
+
+/**
+ * A filter for a single {@link Listener @Listener} method, generated at
+ * compile time by the listener annotation processor from the filter
+ * annotations present on the method and its parameters.
+ *
+ * <p>Generated filters resolve every parameter through direct calls and
+ * scans of the event's {@link org.spongepowered.api.event.Cause}, so that
+ * implementations do not need to resolve the annotations reflectively. Every
+ * filter is listed in the {@link #MANIFEST manifest} of the plugin it was
+ * compiled into, listeners that are absent from it (for example because they
+ * use a filter the processor cannot compile) are resolved as usual.</p>
+ *
+ * @param <E> The event type of the listener
+ */
+@FunctionalInterface
+public interface ListenerFilter<E extends Event> {
+
+    /**
+     * The location of the manifest listing all generated filters.
+     *
+     * <p>Each line consists of four tab separated columns: the binary name of
+     * the class declaring the listener, the name of the listener method, the
+     * JVM descriptor of the listener method and the binary name of the
+     * generated filter class, which has a public no-args constructor.</p>
+     */
+    String MANIFEST = "META-INF/sponge/listener-filters.list";
+
+    /**
+     * Filters the given event and resolves the arguments the listener should
+     * be invoked with.
+     *
+     * <p>This covers the cancellation state of the event, see
+     * {@link IsCancelled}, as well as the event type filters and the
+     * parameter filters.</p>
+     *
+     * @param event The event
+     * @return The arguments to invoke the listener with, starting with the
+     *     event itself, or {@code null} if the listener should not be invoked
+     */
+    Object @Nullable [] filter(E event);
+
+}
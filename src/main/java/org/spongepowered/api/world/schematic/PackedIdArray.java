@@ -0,0 +1,235 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.world.schematic;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * A fixed size array of {@link Palette} ids packed into {@code long}s using
+ * a variable amount of bits per entry, such that a volume using a palette
+ * of {@code n} entries only needs {@code ceil(log2(n))} bits per position.
+ *
+ * <p>Entries never span two {@code long}s: each {@code long} holds
+ * {@code 64 / bitsPerEntry} entries starting from its least significant
+ * bits, and any remaining high bits are unused.</p>
+ */
+public final class PackedIdArray {
+
+    /**
+     * Gets the amount of bits needed per entry to store ids up to and
+     * including the given id.
+     *
+     * @param highestId The highest id, as by {@link Palette#highestId()}
+     * @return The amount of bits per entry, at least {@code 1}
+     */
+    public static int bitsPerEntry(final int highestId) {
+        if (highestId < 0) {
+            throw new IllegalArgumentException("highestId cannot be negative");
+        }
+        return Math.max(1, Integer.SIZE - Integer.numberOfLeadingZeros(highestId));
+    }
+
+    /**
+     * Creates a packed array holding the given ids.
+     *
+     * @param ids The ids
+     * @param bitsPerEntry The amount of bits per entry
+     * @return The packed array
+     * @throws IllegalArgumentException If an id is negative or does not fit
+     *     in the given amount of bits
+     */
+    public static PackedIdArray of(final int[] ids, final int bitsPerEntry) {
+        final PackedIdArray array = new PackedIdArray(ids.length, bitsPerEntry);
+        for (int i = 0; i < ids.length; i++) {
+            array.set(i, ids[i]);
+        }
+        return array;
+    }
+
+    private final int size;
+    private final int bitsPerEntry;
+    private final int entriesPerLong;
+    private final long mask;
+    private final long[] data;
+
+    private static int length(final int size, final int bitsPerEntry) {
+        if (size < 0) {
+            throw new IllegalArgumentException("size cannot be negative");
+        }
+        if (bitsPerEntry < 1 || bitsPerEntry > Integer.SIZE) {
+            throw new IllegalArgumentException("bitsPerEntry must be between 1 and 32");
+        }
+        final int entriesPerLong = Long.SIZE / bitsPerEntry;
+        return (size + entriesPerLong - 1) / entriesPerLong;
+    }
+
+    /**
+     * Creates a packed array of the given size with every entry set to
+     * {@code 0}.
+     *
+     * @param size The amount of entries
+     * @param bitsPerEntry The amount of bits per entry, between {@code 1}
+     *     and {@code 32}
+     */
+    public PackedIdArray(final int size, final int bitsPerEntry) {
+        this(size, bitsPerEntry, new long[PackedIdArray.length(size, bitsPerEntry)]);
+    }
+
+    /**
+     * Creates a packed array of the given size backed by the given data,
+     * which is not copied.
+     *
+     * @param size The amount of entries
+     * @param bitsPerEntry The amount of bits per entry, between {@code 1}
+     *     and {@code 32}
+     * @param data The packed data
+     * @throws IllegalArgumentException If the length of the data does not
+     *     match the size and bits per entry
+     */
+    public PackedIdArray(final int size, final int bitsPerEntry, final long[] data) {
+        final int length = PackedIdArray.length(size, bitsPerEntry);
+        if (data.length != length) {
+            throw new IllegalArgumentException("Expected " + length + " longs but got " + data.length);
+        }
+        this.size = size;
+        this.bitsPerEntry = bitsPerEntry;
+        this.entriesPerLong = Long.SIZE / bitsPerEntry;
+        this.mask = (1L << bitsPerEntry) - 1;
+        this.data = data;
+    }
+
+    /**
+     * Gets the amount of entries.
+     *
+     * @return The size
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Gets the amount of bits used per entry.
+     *
+     * @return The bits per entry
+     */
+    public int bitsPerEntry() {
+        return this.bitsPerEntry;
+    }
+
+    /**
+     * Gets the packed data backing this array. Changes to the returned array
+     * are reflected by this array.
+     *
+     * @return The packed data
+     */
+    public long[] data() {
+        return this.data;
+    }
+
+    /**
+     * Gets the id at the given index.
+     *
+     * @param index The index
+     * @return The id
+     */
+    public int get(final int index) {
+        Objects.checkIndex(index, this.size);
+        final int shift = (index % this.entriesPerLong) * this.bitsPerEntry;
+        return (int) ((this.data[index / this.entriesPerLong] >>> shift) & this.mask);
+    }
+
+    /**
+     * Sets the id at the given index.
+     *
+     * @param index The index
+     * @param id The id
+     * @throws IllegalArgumentException If the id is negative or does not fit
+     *     in the bits per entry of this array
+     */
+    public void set(final int index, final int id) {
+        Objects.checkIndex(index, this.size);
+        if (id < 0 || (id & this.mask) != id) {
+            throw new IllegalArgumentException("Id " + id + " does not fit in " + this.bitsPerEntry + " bits");
+        }
+        final int cell = index / this.entriesPerLong;
+        final int shift = (index % this.entriesPerLong) * this.bitsPerEntry;
+        this.data[cell] = this.data[cell] & ~(this.mask << shift) | ((long) id << shift);
+    }
+
+    /**
+     * Copies all ids into the given array.
+     *
+     * @param out The array to copy into, of at least {@link #size()}
+     * @return The given array
+     */
+    public int[] toArray(final int[] out) {
+        if (out.length < this.size) {
+            throw new IllegalArgumentException("Expected at least " + this.size + " entries but got " + out.length);
+        }
+        int index = 0;
+        for (final long cell : this.data) {
+            long bits = cell;
+            for (int i = 0; i < this.entriesPerLong && index < this.size; i++) {
+                out[index++] = (int) (bits & this.mask);
+                bits >>>= this.bitsPerEntry;
+            }
+        }
+        return out;
+    }
+
+    /**
+     * Creates a copy of this array using the given amount of bits per entry,
+     * such as after a palette grew past the capacity of this array.
+     *
+     * @param bitsPerEntry The amount of bits per entry
+     * @return The resized copy
+     * @throws IllegalArgumentException If an id does not fit in the given
+     *     amount of bits
+     */
+    public PackedIdArray resize(final int bitsPerEntry) {
+        return PackedIdArray.of(this.toArray(new int[this.size]), bitsPerEntry);
+    }
+
+    @Override
+    public boolean equals(final @Nullable Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof PackedIdArray)) {
+            return false;
+        }
+        final PackedIdArray other = (PackedIdArray) obj;
+        return this.size == other.size && this.bitsPerEntry == other.bitsPerEntry && Arrays.equals(this.data, other.data);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * (31 * this.size + this.bitsPerEntry) + Arrays.hashCode(this.data);
+    }
+
+}
@@ -57,6 +57,16 @@
      */
     int highestId();
 
+    /**
+     * Gets the amount of bits needed to store any id of this palette in a
+     * {@link PackedIdArray}.
+     *
+     * @return The amount of bits per entry
+     */
+    default int bitsPerEntry() {
+        return PackedIdArray.bitsPerEntry(Math.max(0, this.highestId()));
+    }
+
     /**
      * Gets the {@code type} represented by the given identifier from the mapping.
      *
@@ -31,6 +31,7 @@
 import org.spongepowered.api.entity.EntityArchetype;
 import org.spongepowered.api.util.CopyableBuilder;
 import org.spongepowered.api.world.biome.Biome;
+import org.spongepowered.api.world.volume.StorageType;
 import org.spongepowered.api.world.volume.archetype.ArchetypeVolume;
 import org.spongepowered.api.world.volume.archetype.ArchetypeVolumeCreator;
 import org.spongepowered.api.world.volume.archetype.entity.EntityArchetypeEntry;
@@ -115,6 +116,24 @@ interface Builder extends org.spongepowered.api.util.Builder<Schematic, Builder>
 
         Builder volume(ArchetypeVolume volume);
 
+        /**
+         * Specifies the {@link StorageType} used for the blocks, biomes and
+         * block entities of the schematic, whether they are copied from
+         * {@link #creator(ArchetypeVolumeCreator) a creator} or read from
+         * serialized data. Defaults to {@link StorageType#STANDARD}.
+         *
+         * <p>Schematics with millions of blocks should use
+         * {@link StorageType#OFF_HEAP}, so that loading and pasting them does
+         * not hold every block on the heap. The default implementation
+         * ignores the storage type.</p>
+         *
+         * @param type The storage type
+         * @return This builder, for chaining
+         */
+        default Builder storageType(final StorageType type) {
+            return this;
+        }
+
         /**
          * Specifies a palette for the schematic to use for serialization. This
          * overrides the {@link #blockPaletteType(PaletteType)} value.
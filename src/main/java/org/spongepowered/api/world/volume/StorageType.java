@@ -42,6 +42,23 @@ public enum StorageType {
      * for multi-threaded applications, but single threaded ones might suffer
      * for extra overhead.
      */
-    THREAD_SAFE
+    THREAD_SAFE,
+
+    /**
+     * A storage solution kept outside of the Java heap, meant for very large
+     * copies such as schematics and archetype volumes. Blocks and biomes are
+     * stored as packed palette ids in direct memory, see
+     * {@link org.spongepowered.api.world.schematic.PackedIdArray} for the
+     * layout, and block entities are kept as serialized slices which are
+     * only parsed once they are accessed.
+     *
+     * <p>Reads and writes of single positions are slower than with
+     * {@link #STANDARD}, while bulk operations such as
+     * {@link org.spongepowered.api.world.volume.block.BlockVolume.Streamable#paletteIds(org.spongepowered.math.vector.Vector3i, org.spongepowered.math.vector.Vector3i, int[])}
+     * and pasting are not. Like {@link #STANDARD}, this storage is not
+     * guaranteed to be thread-safe. Implementations that do not support
+     * it use {@link #STANDARD} instead.</p>
+     */
+    OFF_HEAP
 
 }
@@ -24,6 +24,7 @@
  */
 package org.spongepowered.api.world.volume.archetype;
 
+import org.spongepowered.api.world.volume.StorageType;
 import org.spongepowered.api.world.volume.Volume;
 import org.spongepowered.math.vector.Vector3i;
 
@@ -41,4 +42,24 @@ public interface ArchetypeVolumeCreator extends Volume {
      */
     ArchetypeVolume createArchetypeVolume(Vector3i min, Vector3i max, Vector3i origin);
 
+    /**
+     * Creates a new archetype volume from the specified section of this extent,
+     * stored with the given {@link StorageType}. The archetype's volume will
+     * be shifted such that the position given in the origin will be the
+     * origin of the volume.
+     *
+     * <p>Large copies should prefer {@link StorageType#OFF_HEAP}, which keeps
+     * the copied blocks, biomes and block entities outside of the heap. The
+     * default implementation ignores the storage type.</p>
+     *
+     * @param min The minimum point of the volume to copy
+     * @param max The maximum point of the volume to copy
+     * @param origin The eventual origin on the new archetype volume
+     * @param type The storage type of the archetype volume
+     * @return The archetype volume
+     */
+    default ArchetypeVolume createArchetypeVolume(final Vector3i min, final Vector3i max, final Vector3i origin, final StorageType type) {
+        return this.createArchetypeVolume(min, max, origin);
+    }
+
 }
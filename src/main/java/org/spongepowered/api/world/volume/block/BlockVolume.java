@@ -32,6 +32,7 @@
 import org.spongepowered.api.registry.RegistryReference;
 import org.spongepowered.api.registry.RegistryTypes;
 import org.spongepowered.api.util.PositionOutOfBoundsException;
+import org.spongepowered.api.world.schematic.PackedIdArray;
 import org.spongepowered.api.world.schematic.Palette;
 import org.spongepowered.api.world.schematic.PaletteTypes;
 import org.spongepowered.api.world.server.ServerLocation;
@@ -110,6 +111,19 @@ default Vector3i highestPositionAt(final Vector3i position) {
         return new Vector3i(position.x(), this.highestYAt(position.x(), position.z()), position.z());
     }
 
+    private static int blockCount(final Vector3i min, final Vector3i max) {
+        if (min.x() > max.x() || min.y() > max.y() || min.z() > max.z()) {
+            throw new IllegalArgumentException("The minimum " + min + " must not be greater than the maximum " + max + " on any axis");
+        }
+        final Vector3i size = max.sub(min).add(Vector3i.ONE);
+        try {
+            return Math.multiplyExact(Math.multiplyExact(size.x(), size.y()), size.z());
+        } catch (final ArithmeticException ex) {
+            throw new IllegalArgumentException("The area between " + min + " and " + max + " holds more than "
+                + Integer.MAX_VALUE + " blocks", ex);
+        }
+    }
+
     interface Streamable<B extends Streamable<B>> extends BlockVolume {
 
         /**
@@ -124,6 +138,63 @@ default Vector3i highestPositionAt(final Vector3i position) {
          */
         VolumeStream<B, BlockState> blockStateStream(Vector3i min, Vector3i max, StreamOptions options);
 
+        /**
+         * Copies the {@link #blockPalette() palette} ids of the blocks between
+         * {@code min} and {@code max} into the given array, such that the id
+         * of the block at {@code (x, y, z)} is stored at index
+         * {@code (x - min.x) + (z - min.z) * width + (y - min.y) * width * length}.
+         * Blocks which are not part of the palette are stored as {@code -1}.
+         *
+         * <p>Implementations backed by palette ids copy them directly rather
+         * than looking up every block.</p>
+         *
+         * @param min The minimum coordinate set
+         * @param max The maximum coordinate set
+         * @param out The array to copy the ids into
+         * @return The given array
+         * @throws IllegalArgumentException If the array is smaller than the
+         *     area between {@code min} and {@code max}, or the area holds more
+         *     than {@link Integer#MAX_VALUE} blocks, or {@code min} is greater
+         *     than {@code max} on any axis
+         * @throws PositionOutOfBoundsException If the area is not contained
+         *     within this volume
+         */
+        default int[] paletteIds(final Vector3i min, final Vector3i max, final int[] out) {
+            final int volume = BlockVolume.blockCount(min, max);
+            if (out.length < volume) {
+                throw new IllegalArgumentException("Expected at least " + volume + " entries but got " + out.length);
+            }
+            final Palette<BlockState, BlockType> palette = this.blockPalette();
+            int index = 0;
+            for (int y = min.y(); y <= max.y(); y++) {
+                for (int z = min.z(); z <= max.z(); z++) {
+                    for (int x = min.x(); x <= max.x(); x++) {
+                        out[index++] = palette.get(this.block(x, y, z)).orElse(-1);
+                    }
+                }
+            }
+            return out;
+        }
+
+        /**
+         * Copies the {@link #blockPalette() palette} ids of the blocks between
+         * {@code min} and {@code max} into a new {@link PackedIdArray}, in the
+         * order described by {@link #paletteIds(Vector3i, Vector3i, int[])}.
+         *
+         * @param min The minimum coordinate set
+         * @param max The maximum coordinate set
+         * @return The packed ids
+         * @throws IllegalArgumentException If a block is not part of the
+         *     palette, the area holds more than {@link Integer#MAX_VALUE}
+         *     blocks, or {@code min} is greater than {@code max} on any axis
+         * @throws PositionOutOfBoundsException If the area is not contained
+         *     within this volume
+         */
+        default PackedIdArray packedPaletteIds(final Vector3i min, final Vector3i max) {
+            final int[] ids = this.paletteIds(min, max, new int[BlockVolume.blockCount(min, max)]);
+            return PackedIdArray.of(ids, this.blockPalette().bitsPerEntry());
+        }
+
     }
 
     /**
@@ -173,6 +244,77 @@ default boolean removeBlock(final Vector3i position) {
         }
 
         boolean removeBlock(int x, int y, int z);
+
+        /**
+         * Sets the blocks between {@code min} and {@code max} from the given
+         * {@link #blockPalette() palette} ids, stored in the order described
+         * by {@link #paletteIds(Vector3i, Vector3i, int[])}. Entries of
+         * {@code -1} are skipped.
+         *
+         * <p>Implementations backed by palette ids copy them directly rather
+         * than setting every block.</p>
+         *
+         * @param min The minimum coordinate set
+         * @param max The maximum coordinate set
+         * @param ids The palette ids
+         * @throws IllegalArgumentException If the array is smaller than the
+         *     area between {@code min} and {@code max}, contains an id which
+         *     is not part of the palette, the area holds more than
+         *     {@link Integer#MAX_VALUE} blocks, or {@code min} is greater than
+         *     {@code max} on any axis, in which case no block is set
+         * @throws PositionOutOfBoundsException If the area is not contained
+         *     within this volume
+         */
+        default void setPaletteIds(final Vector3i min, final Vector3i max, final int[] ids) {
+            final int volume = BlockVolume.blockCount(min, max);
+            if (ids.length < volume) {
+                throw new IllegalArgumentException("Expected at least " + volume + " entries but got " + ids.length);
+            }
+            final Palette<BlockState, BlockType> palette = this.blockPalette();
+            final BlockState[] states = new BlockState[palette.highestId() + 1];
+            // Resolve every id before writing, such that unknown ids leave the volume untouched
+            for (int index = 0; index < volume; index++) {
+                final int id = ids[index];
+                if (id == -1 || id >= 0 && id < states.length && states[id] != null) {
+                    continue;
+                }
+                if (id < 0 || id >= states.length) {
+                    throw new IllegalArgumentException("Unknown palette id " + id);
+                }
+                states[id] = palette.get(id, Sponge.game()).orElseThrow(() -> new IllegalArgumentException("Unknown palette id " + id));
+            }
+            int index = 0;
+            for (int y = min.y(); y <= max.y(); y++) {
+                for (int z = min.z(); z <= max.z(); z++) {
+                    for (int x = min.x(); x <= max.x(); x++) {
+                        final int id = ids[index++];
+                        if (id != -1) {
+                            this.setBlock(x, y, z, states[id]);
+                        }
+                    }
+                }
+            }
+        }
+
+        /**
+         * Sets the blocks between {@code min} and {@code max} from the given
+         * packed {@link #blockPalette() palette} ids, as by
+         * {@link #setPaletteIds(Vector3i, Vector3i, int[])}.
+         *
+         * @param min The minimum coordinate set
+         * @param max The maximum coordinate set
+         * @param ids The packed palette ids
+         * @throws IllegalArgumentException If the array is smaller than the
+         *     area between {@code min} and {@code max}, contains an id which
+         *     is not part of the palette, the area holds more than
+         *     {@link Integer#MAX_VALUE} blocks, or {@code min} is greater than
+         *     {@code max} on any axis, in which case no block is set
+         * @throws PositionOutOfBoundsException If the area is not contained
+         *     within this volume
+         */
+        default void setPaletteIds(final Vector3i min, final Vector3i max, final PackedIdArray ids) {
+            this.setPaletteIds(min, max, ids.toArray(new int[ids.size()]));
+        }
     }
 
     interface Mutable extends Modifiable<Mutable> {
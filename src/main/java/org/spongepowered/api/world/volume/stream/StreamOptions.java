@@ -175,12 +175,60 @@ public boolean immediateLoading() {
      */
     LoadingStyle loadingStyle();
 
+    /**
+     * Whether the targeted {@link Volume} is guaranteed to not be modified
+     * while the stream is being evaluated, such that its elements may be
+     * read directly from several threads without making a
+     * {@link #carbonCopy() carbon copy} first.
+     *
+     * @return True if the volume is treated as read-only
+     */
+    boolean readOnly();
+
+    /**
+     * Whether sections of the volume are summarized before being streamed.
+     * Each section is first asked for its palette: sections which only
+     * contain a single element, such as those entirely made of air, are
+     * handled as a whole rather than element by element.
+     *
+     * <p>For such uniform sections, filters are tested once and the whole
+     * section is either skipped or kept, and kept sections are passed to
+     * collectors as a single run through
+     * {@link VolumeApplicator#applyUniform(org.spongepowered.api.world.volume.MutableVolume, VolumeElement, Vector3i)}.
+     * Only filters that cannot see positions are therefore allowed: streams
+     * summarizing sections only accept
+     * {@link VolumeStream#filterElements(java.util.function.Predicate)}, and
+     * throw an {@link IllegalStateException} from the position-dependent
+     * {@link VolumeStream#filter(VolumePredicate) filter} overloads. Elements
+     * of {@link VolumeStream#map(VolumeMapper) mapped} streams are no longer
+     * summarized, as mappers are given positions as well.</p>
+     *
+     * @return True if uniform sections are summarized
+     */
+    boolean summarizeSections();
+
+    /**
+     * Whether a stream built with these options may be evaluated in
+     * parallel, see {@link VolumeStream#parallel()}. This is the case if the
+     * stream either operates on a {@link #carbonCopy() carbon copy} or on a
+     * {@link #readOnly() read-only} volume.
+     *
+     * @return True if parallel evaluation is allowed
+     */
+    default boolean allowsParallelAccess() {
+        return this.carbonCopy() || this.readOnly();
+    }
+
     interface Builder extends org.spongepowered.api.util.Builder<StreamOptions, Builder> {
 
         Builder setCarbonCopy(boolean copies);
 
         Builder setLoadingStyle(LoadingStyle style);
 
+        Builder setReadOnly(boolean readOnly);
+
+        Builder setSummarizeSections(boolean summarize);
+
         @Override
         StreamOptions build();
 
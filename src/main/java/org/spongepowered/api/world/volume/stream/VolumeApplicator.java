@@ -25,11 +25,46 @@
 package org.spongepowered.api.world.volume.stream;
 
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.world.volume.MutableVolume;
+import org.spongepowered.math.vector.Vector3d;
+import org.spongepowered.math.vector.Vector3i;
 
 @FunctionalInterface
 public interface VolumeApplicator<M extends MutableVolume, T, R> {
 
     R apply(M volume, VolumeElement<? extends @NonNull Object, T> element);
 
+    /**
+     * Applies the same element to every position of a uniform box starting
+     * at the position of the given element, such as a uniform section of a
+     * stream with {@link StreamOptions#summarizeSections() summarized sections}.
+     *
+     * <p>The default implementation applies every position individually,
+     * applicators able to fill an area at once should override this.</p>
+     *
+     * @param volume The volume to apply to
+     * @param element The element at the first position of the box
+     * @param size The size of the box
+     * @return The result of the last applied position
+     * @throws IllegalArgumentException If any dimension of the size is not
+     *     positive
+     */
+    default R applyUniform(final M volume, final VolumeElement<? extends @NonNull Object, T> element, final Vector3i size) {
+        if (size.x() <= 0 || size.y() <= 0 || size.z() <= 0) {
+            throw new IllegalArgumentException("size must not be empty: " + size);
+        }
+        final Vector3d origin = element.position();
+        final T type = element.type();
+        @Nullable R result = null;
+        for (int y = 0; y < size.y(); y++) {
+            for (int z = 0; z < size.z(); z++) {
+                for (int x = 0; x < size.x(); x++) {
+                    result = this.apply(volume, VolumeElement.of(element.volume(), type, origin.add(x, y, z)));
+                }
+            }
+        }
+        return result;
+    }
+
 }
@@ -0,0 +1,88 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.world.volume.stream;
+
+import org.checkerframework.checker.nullness.qual.MonotonicNonNull;
+import org.spongepowered.api.world.volume.Volume;
+
+import java.util.function.Consumer;
+
+/**
+ * The reused {@link VolumeStream.Cursor} of
+ * {@link VolumeStream#forEachCursor(Consumer)}.
+ */
+final class VolumeCursor<V extends Volume, T> implements VolumeStream.Cursor<V, T>, VolumeConsumer<V, T> {
+
+    private final Consumer<? super VolumeStream.Cursor<V, T>> visitor;
+    private @MonotonicNonNull V volume;
+    private @MonotonicNonNull T type;
+    private int x;
+    private int y;
+    private int z;
+
+    VolumeCursor(final Consumer<? super VolumeStream.Cursor<V, T>> visitor) {
+        this.visitor = visitor;
+    }
+
+    @Override
+    public void consume(final V volume, final T type, final int x, final int y, final int z) {
+        this.volume = volume;
+        this.type = type;
+        this.x = x;
+        this.y = y;
+        this.z = z;
+        this.visitor.accept(this);
+    }
+
+    @Override
+    public void consume(final V volume, final T type, final double x, final double y, final double z) {
+        this.consume(volume, type, (int) Math.floor(x), (int) Math.floor(y), (int) Math.floor(z));
+    }
+
+    @Override
+    public V volume() {
+        return this.volume;
+    }
+
+    @Override
+    public T type() {
+        return this.type;
+    }
+
+    @Override
+    public int x() {
+        return this.x;
+    }
+
+    @Override
+    public int y() {
+        return this.y;
+    }
+
+    @Override
+    public int z() {
+        return this.z;
+    }
+}
@@ -28,7 +28,9 @@
 import org.spongepowered.api.world.volume.Volume;
 import org.spongepowered.math.vector.Vector3d;
 
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -48,6 +50,7 @@
  * <ul>
  *     <li>{@link #filter(VolumePredicate)}</li>
  *     <li>{@link #filter(Predicate)}</li>
+ *     <li>{@link #filterElements(Predicate)}</li>
  *     <li>{@link #map(VolumeMapper) map(VolumeMapper&lt;V, T&gt;)}</li>
  *     <li>{@link #map(Function) map(Function&lt;VolumeElement&lt;V, T&gt;&gt;)}</li>
  * </ul>
@@ -57,6 +60,16 @@
  * perhaps supplying different instances as "replacements".
  * TODO flesh out the description of VolumeStream
  *
+ * <p><strong>Allocation-free Evaluation</strong>
+ * <p>The overloads accepting a {@link VolumeConsumer}, {@link VolumePredicate}
+ * or {@link VolumeMapper} are the primary contract of a stream:
+ * implementations invoke their {@code int} coordinate methods directly and
+ * do not allocate per element. The overloads accepting plain
+ * {@link Function}s, {@link Predicate}s and {@link Consumer}s wrap every
+ * element in a {@link VolumeElement} and are only provided for
+ * convenience. {@link #forEachCursor(Consumer)} offers the same convenience
+ * without the allocations.</p>
+ *
  * @param <V> The type of volume backing this Stream
  * @param <T> The type of element being iterated on
  */
@@ -64,12 +77,100 @@
 
     V volume();
 
+    /**
+     * Returns an equivalent stream whose terminal operations are evaluated
+     * in parallel on the {@link ForkJoinPool#commonPool() common pool}.
+     *
+     * @return The parallel stream
+     * @throws IllegalStateException If the {@link StreamOptions} of this
+     *     stream do not {@link StreamOptions#allowsParallelAccess() allow}
+     *     parallel access
+     * @see #parallel(ForkJoinPool)
+     */
+    default VolumeStream<V, T> parallel() {
+        return this.parallel(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Returns an equivalent stream whose terminal operations are evaluated
+     * in parallel on the given {@link ForkJoinPool}.
+     *
+     * <p>The area of the stream is split along the section boundaries of the
+     * volume's {@link org.spongepowered.api.world.storage.ChunkLayout}, so
+     * that every task covers whole sections. Visitors, predicates, mappers
+     * and collectors passed to a parallel stream may be invoked concurrently
+     * and must be thread-safe, and {@link #findFirst()} remains ordered while
+     * {@link #findAny()} does not. {@link #toStream()} returns a parallel
+     * {@link Stream} split the same way.</p>
+     *
+     * @param pool The pool to evaluate the stream on
+     * @return The parallel stream
+     * @throws IllegalStateException If the {@link StreamOptions} of this
+     *     stream do not {@link StreamOptions#allowsParallelAccess() allow}
+     *     parallel access
+     */
+    VolumeStream<V, T> parallel(ForkJoinPool pool);
+
+    /**
+     * Returns an equivalent stream whose terminal operations are evaluated
+     * sequentially on the calling thread.
+     *
+     * @return The sequential stream
+     */
+    VolumeStream<V, T> sequential();
+
+    /**
+     * Gets whether terminal operations of this stream are evaluated in
+     * parallel.
+     *
+     * @return True if this stream is parallel
+     */
+    boolean isParallel();
+
+    /**
+     * Filters the elements of this stream with a predicate that may depend
+     * on their position.
+     *
+     * @param predicate The predicate
+     * @return The filtered stream
+     * @throws IllegalStateException If this stream
+     *     {@link StreamOptions#summarizeSections() summarizes sections}, see
+     *     {@link #filterElements(Predicate)}
+     */
     VolumeStream<V, T> filter(VolumePredicate<V, T> predicate);
 
+    /**
+     * Filters the elements of this stream with a predicate that may depend
+     * on their position.
+     *
+     * @param predicate The predicate
+     * @return The filtered stream
+     * @throws IllegalStateException If this stream
+     *     {@link StreamOptions#summarizeSections() summarizes sections}, see
+     *     {@link #filterElements(Predicate)}
+     */
     default VolumeStream<V, T> filter(final Predicate<VolumeElement<V, ? super T>> predicate) {
         return this.filter((volume, element, x, y, z) -> predicate.test(VolumeElement.of(volume, element, new Vector3d(x, y, z))));
     }
 
+    /**
+     * Filters the elements of this stream by their value only. Unlike the
+     * other filters, the predicate is never given a position, so it can be
+     * tested once for a whole uniform section of a stream which
+     * {@link StreamOptions#summarizeSections() summarizes sections}.
+     *
+     * <p>Implementations honoring {@link StreamOptions#summarizeSections()}
+     * must override this method, as the default delegates to
+     * {@link #filter(VolumePredicate)}.</p>
+     *
+     * @param predicate The predicate
+     * @return The filtered stream
+     */
+    default VolumeStream<V, T> filterElements(final Predicate<? super T> predicate) {
+        Objects.requireNonNull(predicate, "predicate");
+        return this.filter((volume, element, x, y, z) -> predicate.test(element.get()));
+    }
+
     <Out> VolumeStream<V, Out> map(VolumeMapper<V, T, Out> mapper);
 
     default <Out> VolumeStream<V, Out> map(final Function<VolumeElement<V, T>, ? extends Out> mapper) {
@@ -122,4 +223,91 @@ default void forEach(final Consumer<VolumeElement<V, T>> consumer) {
         this.forEach((volume, type, x, y, z) -> consumer.accept(VolumeElement.of(volume, type, new Vector3d(x, y, z))));
     }
 
+    /**
+     * Visits every element of this stream through a single, reused
+     * {@link Cursor} which is updated in place for each element, instead of
+     * allocating a {@link VolumeElement} per element.
+     *
+     * <p>The cursor is only valid for the duration of each call to the
+     * visitor and must not be retained, use {@link Cursor#toElement()} to
+     * keep an element. Parallel streams use one cursor per thread.</p>
+     *
+     * @param visitor The visitor
+     */
+    default void forEachCursor(final Consumer<? super Cursor<V, T>> visitor) {
+        if (this.isParallel()) {
+            final ThreadLocal<VolumeCursor<V, T>> cursors = ThreadLocal.withInitial(() -> new VolumeCursor<>(visitor));
+            this.forEach(new VolumeConsumer<V, T>() {
+                @Override
+                public void consume(final V volume, final T type, final int x, final int y, final int z) {
+                    cursors.get().consume(volume, type, x, y, z);
+                }
+
+                @Override
+                public void consume(final V volume, final T type, final double x, final double y, final double z) {
+                    cursors.get().consume(volume, type, x, y, z);
+                }
+            });
+        } else {
+            this.forEach(new VolumeCursor<>(visitor));
+        }
+    }
+
+    /**
+     * A mutable view of the current element of a {@link VolumeStream},
+     * updated in place as the stream advances.
+     *
+     * @param <V> The type of volume
+     * @param <T> The type of element
+     * @see VolumeStream#forEachCursor(Consumer)
+     */
+    interface Cursor<V extends Volume, T> {
+
+        /**
+         * Gets the volume of the current element.
+         *
+         * @return The volume
+         */
+        V volume();
+
+        /**
+         * Gets the current element.
+         *
+         * @return The element
+         */
+        T type();
+
+        /**
+         * Gets the block x coordinate of the current element.
+         *
+         * @return The x coordinate
+         */
+        int x();
+
+        /**
+         * Gets the block y coordinate of the current element.
+         *
+         * @return The y coordinate
+         */
+        int y();
+
+        /**
+         * Gets the block z coordinate of the current element.
+         *
+         * @return The z coordinate
+         */
+        int z();
+
+        /**
+         * Creates an immutable {@link VolumeElement} of the current element,
+         * positioned at the center of its block like the elements passed to
+         * {@link VolumeStream#forEach(Consumer)}.
+         *
+         * @return The element
+         */
+        default VolumeElement<V, T> toElement() {
+            return VolumeElement.of(this.volume(), this.type(), new Vector3d(this.x() + 0.5, this.y() + 0.5, this.z() + 0.5));
+        }
+    }
+
 }
@@ -0,0 +1,139 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.block.transaction;
+
+import static org.mockito.Mockito.mock;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.spongepowered.api.block.BlockState;
+import org.spongepowered.api.block.BlockType;
+import org.spongepowered.api.world.schematic.Palette;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class BlockChangeBatchTest {
+
+    @Test
+    void testPackedPositions() {
+        final int[][] positions = {{0, 0, 0}, {-1, -64, -1}, {30_000_000, 319, -30_000_000}, {-30_000_000, -2048, 30_000_000}};
+        for (final int[] position : positions) {
+            final long packed = BlockChangeBatch.pack(position[0], position[1], position[2]);
+            Assertions.assertEquals(position[0], BlockChangeBatch.unpackX(packed));
+            Assertions.assertEquals(position[1], BlockChangeBatch.unpackY(packed));
+            Assertions.assertEquals(position[2], BlockChangeBatch.unpackZ(packed));
+        }
+    }
+
+    @Test
+    void testInvalidateTestsEachPaletteEntryOnce() {
+        final BlockState[] states = {mock(BlockState.class), mock(BlockState.class)};
+        final TestBatch batch = new TestBatch(states, new int[] {0, 1, 1, 0, 1});
+        final AtomicInteger tests = new AtomicInteger();
+        final int invalidated = batch.invalidateReplacements(state -> {
+            tests.incrementAndGet();
+            return state == states[1];
+        });
+        Assertions.assertEquals(3, invalidated);
+        Assertions.assertEquals(2, tests.get());
+        Assertions.assertTrue(batch.isValid(0));
+        Assertions.assertFalse(batch.isValid(1));
+        Assertions.assertEquals(2, batch.invalidateAll());
+    }
+
+    @Test
+    void testInvalidatePositions() {
+        final TestBatch batch = new TestBatch(new BlockState[] {mock(BlockState.class)}, new int[] {0, 0, 0});
+        Assertions.assertEquals(1, batch.invalidate(position -> BlockChangeBatch.unpackX(position) == 1));
+        Assertions.assertFalse(batch.isValid(1));
+    }
+
+    private static final class TestBatch implements BlockChangeBatch {
+
+        private final BlockState[] states;
+        private final int[] replacements;
+        private final boolean[] valid;
+
+        TestBatch(final BlockState[] states, final int[] replacements) {
+            this.states = states;
+            this.replacements = replacements;
+            this.valid = new boolean[replacements.length];
+            Arrays.fill(this.valid, true);
+        }
+
+        @Override
+        public int size() {
+            return this.replacements.length;
+        }
+
+        @Override
+        public long position(final int index) {
+            return BlockChangeBatch.pack(index, 0, 0);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Palette<BlockState, BlockType> palette() {
+            return mock(Palette.class);
+        }
+
+        @Override
+        public BlockState state(final int paletteId) {
+            return this.states[paletteId];
+        }
+
+        @Override
+        public int originalId(final int index) {
+            return 0;
+        }
+
+        @Override
+        public int replacementId(final int index) {
+            return this.replacements[index];
+        }
+
+        @Override
+        public Operation operation(final int index) {
+            return mock(Operation.class);
+        }
+
+        @Override
+        public boolean isValid(final int index) {
+            return this.valid[index];
+        }
+
+        @Override
+        public void setValid(final int index, final boolean valid) {
+            this.valid[index] = valid;
+        }
+
+        @Override
+        public BlockTransaction transaction(final int index) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+}
@@ -29,7 +29,9 @@
 import org.spongepowered.api.data.persistence.DataQuery;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Objects;
 
 class DataQueryTest {
 
@@ -152,4 +154,39 @@ void testEquals() {
         Assertions.assertNotEquals(query1, nonEqual);
     }
 
+    /**
+     * Method: of(char separator, String path)
+     */
+    @Test
+    void testOfSplitsLikeStringSplit() {
+        for (final String path : new String[] {"", ".", "a", "a.b", ".a", "a..b", "a.b..", "..a.."}) {
+            final List<String> expected = Arrays.asList(path.split("\\."));
+            Assertions.assertEquals(expected, DataQuery.of('.', path).parts(), path);
+        }
+    }
+
+    /**
+     * Method: then(String that), pop(), popFirst()
+     */
+    @Test
+    void testInterned() {
+        final DataQuery query = DataQuery.of("this", "test", "query");
+        Assertions.assertSame(query, DataQuery.of('.', "this.test.query"));
+        Assertions.assertSame(query, DataQuery.of("this", "test").then("query"));
+        Assertions.assertSame(query, DataQuery.of("this").then(DataQuery.of("test", "query")));
+        Assertions.assertSame(DataQuery.of("this", "test"), query.pop());
+        Assertions.assertSame(DataQuery.of("test", "query"), query.popFirst());
+        Assertions.assertSame(DataQuery.of("query"), query.last());
+    }
+
+    /**
+     * Method: hashCode()
+     */
+    @Test
+    void testHashCode() {
+        final List<String> parts = List.of("this", "test", "query");
+        Assertions.assertEquals(Objects.hash(parts), DataQuery.of(parts).hashCode());
+        Assertions.assertEquals(Objects.hash(List.of()), DataQuery.of().hashCode());
+    }
+
 }
@@ -0,0 +1,109 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.spongepowered.api.data.persistence.DataQuery;
+import org.spongepowered.api.data.persistence.DataTokenReader;
+import org.spongepowered.api.data.persistence.DataView;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+class DataTokenReaderTest {
+
+    private static DataView view(final Map<DataQuery, Object> values) {
+        final DataView view = mock(DataView.class);
+        when(view.values(false)).thenReturn(values);
+        return view;
+    }
+
+    private static DataView sample() {
+        final Map<DataQuery, Object> inner = new LinkedHashMap<>();
+        inner.put(DataQuery.of("x"), 1);
+        final Map<DataQuery, Object> values = new LinkedHashMap<>();
+        values.put(DataQuery.of("a"), "foo");
+        values.put(DataQuery.of("b"), DataTokenReaderTest.view(inner));
+        values.put(DataQuery.of("c"), List.of(1, List.of(2, 3)));
+        values.put(DataQuery.of("d"), 4L);
+        return DataTokenReaderTest.view(values);
+    }
+
+    @Test
+    void testTokens() throws IOException {
+        final DataTokenReader reader = DataTokenReader.of(DataTokenReaderTest.sample());
+        final List<DataTokenReader.Token> tokens = new ArrayList<>();
+        DataTokenReader.Token token;
+        while ((token = reader.next()) != DataTokenReader.Token.END_DOCUMENT) {
+            tokens.add(token);
+        }
+        Assertions.assertEquals(List.of(
+            DataTokenReader.Token.BEGIN_VIEW,
+            DataTokenReader.Token.KEY, DataTokenReader.Token.VALUE,
+            DataTokenReader.Token.KEY, DataTokenReader.Token.BEGIN_VIEW,
+            DataTokenReader.Token.KEY, DataTokenReader.Token.VALUE,
+            DataTokenReader.Token.END_VIEW,
+            DataTokenReader.Token.KEY, DataTokenReader.Token.BEGIN_LIST,
+            DataTokenReader.Token.VALUE,
+            DataTokenReader.Token.BEGIN_LIST, DataTokenReader.Token.VALUE, DataTokenReader.Token.VALUE, DataTokenReader.Token.END_LIST,
+            DataTokenReader.Token.END_LIST,
+            DataTokenReader.Token.KEY, DataTokenReader.Token.VALUE,
+            DataTokenReader.Token.END_VIEW
+        ), tokens);
+    }
+
+    @Test
+    void testKeyAndValue() throws IOException {
+        final DataTokenReader reader = DataTokenReader.of(DataTokenReaderTest.sample());
+        reader.next();
+        Assertions.assertEquals(DataTokenReader.Token.KEY, reader.next());
+        Assertions.assertEquals("a", reader.key());
+        Assertions.assertThrows(IllegalStateException.class, reader::value);
+        Assertions.assertEquals(DataTokenReader.Token.VALUE, reader.next());
+        Assertions.assertEquals("foo", reader.value());
+    }
+
+    @Test
+    void testSkip() throws IOException {
+        final DataTokenReader reader = DataTokenReader.of(DataTokenReaderTest.sample());
+        reader.next();
+        reader.skip();
+        reader.skip();
+        reader.skip();
+        Assertions.assertEquals(DataTokenReader.Token.KEY, reader.next());
+        Assertions.assertEquals("d", reader.key());
+        reader.skip();
+        Assertions.assertEquals(DataTokenReader.Token.END_VIEW, reader.next());
+        Assertions.assertEquals(DataTokenReader.Token.END_DOCUMENT, reader.peek());
+    }
+
+}
@@ -0,0 +1,122 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+import org.spongepowered.api.Sponge;
+import org.spongepowered.api.data.persistence.DataContainer;
+import org.spongepowered.api.data.persistence.DataFormat;
+import org.spongepowered.api.data.persistence.DataQuery;
+import org.spongepowered.api.data.persistence.DataTokenWriter;
+import org.spongepowered.api.data.persistence.DataView;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+class DataTokenWriterTest {
+
+    private static DataFormat format() throws IOException {
+        final DataFormat format = mock(DataFormat.class);
+        when(format.writer(any(OutputStream.class))).thenCallRealMethod();
+        return format;
+    }
+
+    @Test
+    void testWritesDocument() throws IOException {
+        final List<DataContainer> containers = new ArrayList<>();
+        final DataManager dataManager = mock(DataManager.class);
+        when(dataManager.createContainer()).thenAnswer(invocation -> {
+            final DataContainer container = mock(DataContainer.class);
+            containers.add(container);
+            return container;
+        });
+        final DataFormat format = DataTokenWriterTest.format();
+        final ClosingStream output = new ClosingStream();
+        try (final MockedStatic<Sponge> sponge = mockStatic(Sponge.class)) {
+            sponge.when(Sponge::dataManager).thenReturn(dataManager);
+            final DataTokenWriter writer = format.writer(output);
+            writer.beginView()
+                .key("a").value("foo")
+                .key("b").beginView().key("x").value(1).endView()
+                .key("c").beginList().value(2).value(3).endList()
+                .endView();
+            Assertions.assertFalse(output.closed);
+            writer.close();
+        }
+        Assertions.assertEquals(2, containers.size());
+        final DataContainer root = containers.get(0);
+        final DataContainer inner = containers.get(1);
+        verify(root).set(DataQuery.of("a"), "foo");
+        verify(inner).set(DataQuery.of("x"), 1);
+        verify(root).set(DataQuery.of("b"), inner);
+        verify(root).set(DataQuery.of("c"), List.of(2, 3));
+        verify(format).writeTo(output, root);
+        Assertions.assertTrue(output.closed);
+    }
+
+    @Test
+    void testCloseIncompleteDocumentClosesStream() throws IOException {
+        final DataFormat format = DataTokenWriterTest.format();
+        final ClosingStream output = new ClosingStream();
+        final DataTokenWriter writer = format.writer(output);
+        Assertions.assertThrows(IllegalStateException.class, writer::close);
+        Assertions.assertTrue(output.closed);
+        verify(format, never()).writeTo(eq(output), any(DataView.class));
+    }
+
+    @Test
+    void testRejectsMisplacedTokens() throws IOException {
+        final DataTokenWriter writer = DataTokenWriterTest.format().writer(new ClosingStream());
+        Assertions.assertThrows(IllegalStateException.class, () -> writer.key("a"));
+        Assertions.assertThrows(IllegalStateException.class, () -> writer.value("a"));
+        Assertions.assertThrows(IllegalStateException.class, writer::beginList);
+        Assertions.assertThrows(IllegalStateException.class, writer::endView);
+        Assertions.assertThrows(IllegalStateException.class, writer::endList);
+    }
+
+    private static final class ClosingStream extends ByteArrayOutputStream {
+
+        boolean closed;
+
+        @Override
+        public void close() {
+            this.closed = true;
+        }
+    }
+
+}
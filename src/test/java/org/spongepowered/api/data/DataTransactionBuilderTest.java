@@ -25,9 +25,21 @@
 package org.spongepowered.api.data;
 
 
+import static org.mockito.Mockito.mock;
+
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.spongepowered.api.data.DataTransactionResult.Type;
+import org.spongepowered.api.data.value.Value;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @SuppressWarnings("BadImport") // limited-scope test, it's ok to import common names
 class DataTransactionBuilderTest {
@@ -41,6 +53,51 @@ void testCorrectTypeWhenAbsorbingResult() {
         Assertions.assertEquals(Type.CANCELLED, this.absorbedType(Type.FAILURE, Type.CANCELLED));
     }
 
+    @Test
+    void testLazySuccessComputesDataOnce() {
+        final Value.Immutable<?> value = mock(Value.Immutable.class);
+        final AtomicInteger calls = new AtomicInteger();
+        final DataTransactionResult result = DataTransactionResult.lazySuccess(() -> {
+            calls.incrementAndGet();
+            return List.of(value);
+        }, List::of);
+        Assertions.assertTrue(result.isSuccessful());
+        Assertions.assertEquals(0, calls.get());
+        Assertions.assertEquals(List.of(value), result.successfulData());
+        Assertions.assertEquals(List.of(value), result.successfulData());
+        Assertions.assertEquals(1, calls.get());
+        Assertions.assertTrue(result.replacedData().isEmpty());
+    }
+
+    @Test
+    void testLazySuccessComputesDataOnceAcrossThreads() throws Exception {
+        final Value.Immutable<?> value = mock(Value.Immutable.class);
+        final AtomicInteger calls = new AtomicInteger();
+        final DataTransactionResult result = DataTransactionResult.lazySuccess(() -> {
+            calls.incrementAndGet();
+            return List.of(value);
+        }, List::of);
+        final int threads = 8;
+        final CountDownLatch start = new CountDownLatch(1);
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            final List<Future<List<Value.Immutable<?>>>> futures = new ArrayList<>(threads);
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return result.successfulData();
+                }));
+            }
+            start.countDown();
+            for (final Future<List<Value.Immutable<?>>> future : futures) {
+                Assertions.assertEquals(List.of(value), future.get(10, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        Assertions.assertEquals(1, calls.get());
+    }
+
     private Type absorbedType(final Type builderType, final Type resultType) {
         final DataTransactionResult result = DataTransactionResult.builder().result(resultType).build();
         final DataTransactionResult absorbed = DataTransactionResult.builder().result(builderType).absorbResult(result).build();
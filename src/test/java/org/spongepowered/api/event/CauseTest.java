@@ -111,4 +111,29 @@ void testListedArray() {
         Assertions.assertEquals(stringList, fooList);
     }
 
+    @Test
+    void testWithSkipsRepeatedCause() {
+        final String foo = "foo";
+        final Cause old = Cause.of(EventContext.empty(), foo);
+        final Cause newCause = old.with(foo, "bar", "bar");
+        Assertions.assertEquals(List.of("foo", "bar"), newCause.all());
+        Assertions.assertSame(old, old.with(foo));
+    }
+
+    @Test
+    void testWithMergedCause() {
+        final Cause first = Cause.of(EventContext.empty(), "foo", 1);
+        final Cause second = Cause.of(EventContext.empty(), 2, "bar");
+        final Cause merged = first.with(second);
+        Assertions.assertEquals(List.of("foo", 1, 2, "bar"), merged.all());
+        Assertions.assertEquals(first.context(), merged.context());
+    }
+
+    @Test
+    void testAllOfNoneMatching() {
+        final Cause cause = Cause.of(EventContext.empty(), "foo", "bar");
+        Assertions.assertTrue(cause.allOf(Integer.class).isEmpty());
+        Assertions.assertEquals(cause.all(), cause.noneOf(Integer.class));
+    }
+
 }
@@ -0,0 +1,84 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.event;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+class EventContextTest {
+
+    @SuppressWarnings("unchecked")
+    private static <T> EventContextKey<T> key(final int ordinal) {
+        final EventContextKey<T> key = mock(EventContextKey.class);
+        when(key.ordinal()).thenReturn(ordinal);
+        return key;
+    }
+
+    @Test
+    void testGet() {
+        final EventContextKey<String> first = EventContextTest.key(3);
+        final EventContextKey<Integer> second = EventContextTest.key(1);
+        final EventContext context = EventContext.builder().add(first, "foo").add(second, 2).build();
+        Assertions.assertEquals("foo", context.require(first));
+        Assertions.assertEquals(2, context.require(second));
+        Assertions.assertFalse(context.containsKey(EventContextTest.key(2)));
+    }
+
+    @Test
+    void testDuplicateKey() {
+        final EventContextKey<String> key = EventContextTest.key(1);
+        final EventContext.Builder builder = EventContext.builder().add(key, "foo");
+        Assertions.assertThrows(IllegalArgumentException.class, () -> builder.add(key, "bar"));
+    }
+
+    @Test
+    void testFromDoesNotModifySource() {
+        final EventContextKey<String> first = EventContextTest.key(1);
+        final EventContextKey<String> second = EventContextTest.key(2);
+        final EventContext parent = EventContext.builder().add(first, "foo").build();
+        Assertions.assertSame(parent, EventContext.builder().from(parent).build());
+
+        final EventContext child = EventContext.builder().from(parent).add(second, "bar").build();
+        Assertions.assertFalse(parent.containsKey(second));
+        Assertions.assertEquals("bar", child.require(second));
+        Assertions.assertEquals("foo", child.require(first));
+    }
+
+    @Test
+    void testEqualsMap() {
+        final EventContextKey<String> first = EventContextTest.key(1);
+        final EventContextKey<String> second = EventContextTest.key(2);
+        final EventContext context = EventContext.of(Map.of(first, "foo", second, "bar"));
+        Assertions.assertEquals(Map.of(first, "foo", second, "bar"), context.asMap());
+        Assertions.assertEquals(context.asMap().hashCode(), context.hashCode());
+        Assertions.assertNotEquals(EventContext.empty(), context);
+    }
+
+}
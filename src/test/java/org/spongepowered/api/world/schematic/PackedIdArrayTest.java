@@ -0,0 +1,73 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.world.schematic;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+class PackedIdArrayTest {
+
+    @Test
+    void testBitsPerEntry() {
+        Assertions.assertEquals(1, PackedIdArray.bitsPerEntry(0));
+        Assertions.assertEquals(1, PackedIdArray.bitsPerEntry(1));
+        Assertions.assertEquals(4, PackedIdArray.bitsPerEntry(15));
+        Assertions.assertEquals(5, PackedIdArray.bitsPerEntry(16));
+    }
+
+    @Test
+    void testRoundTrip() {
+        final SplittableRandom random = new SplittableRandom(42);
+        for (int bits = 1; bits <= 32; bits++) {
+            final int[] ids = new int[1000];
+            for (int i = 0; i < ids.length; i++) {
+                ids[i] = bits >= 31 ? random.nextInt(Integer.MAX_VALUE) : random.nextInt(1 << bits);
+            }
+            final PackedIdArray array = PackedIdArray.of(ids, bits);
+            Assertions.assertArrayEquals(ids, array.toArray(new int[ids.length]));
+            for (int i = 0; i < ids.length; i++) {
+                Assertions.assertEquals(ids[i], array.get(i));
+            }
+        }
+    }
+
+    @Test
+    void testEntriesDoNotSpanLongs() {
+        // 5 bits leave 4 unused bits per long, 12 entries per long
+        Assertions.assertEquals(342, new PackedIdArray(4096, 5).data().length);
+    }
+
+    @Test
+    void testResize() {
+        final PackedIdArray array = PackedIdArray.of(new int[] {0, 1, 2, 3}, 2);
+        final PackedIdArray resized = array.resize(9);
+        Assertions.assertEquals(9, resized.bitsPerEntry());
+        Assertions.assertArrayEquals(new int[] {0, 1, 2, 3}, resized.toArray(new int[4]));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> PackedIdArray.of(new int[] {4}, 2));
+    }
+
+}
@@ -0,0 +1,122 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.world.volume.stream;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doCallRealMethod;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.spongepowered.api.world.volume.Volume;
+import org.spongepowered.math.vector.Vector3d;
+import org.spongepowered.math.vector.Vector3i;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+class VolumeCursorTest {
+
+    private static final Vector3i SIZE = new Vector3i(2, 3, 4);
+
+    private static String type(final int x, final int y, final int z) {
+        return x + "," + y + "," + z;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static VolumeStream<Volume, String> stream(final Volume volume, final boolean parallel, final boolean doubles) {
+        final VolumeStream<Volume, String> stream = mock(VolumeStream.class);
+        when(stream.isParallel()).thenReturn(parallel);
+        doCallRealMethod().when(stream).forEachCursor(any());
+        doAnswer(invocation -> {
+            final VolumeConsumer<Volume, String> visitor = invocation.getArgument(0);
+            for (int y = 0; y < VolumeCursorTest.SIZE.y(); y++) {
+                for (int z = 0; z < VolumeCursorTest.SIZE.z(); z++) {
+                    for (int x = 0; x < VolumeCursorTest.SIZE.x(); x++) {
+                        if (doubles) {
+                            visitor.consume(volume, VolumeCursorTest.type(x, y, z), x + 0.5, y + 0.5, z + 0.5);
+                        } else {
+                            visitor.consume(volume, VolumeCursorTest.type(x, y, z), x, y, z);
+                        }
+                    }
+                }
+            }
+            return null;
+        }).when(stream).forEach(any(VolumeConsumer.class));
+        return stream;
+    }
+
+    private static void assertVisitsEveryPositionOnce(final boolean parallel, final boolean doubles) {
+        final Volume volume = mock(Volume.class);
+        final Set<Vector3i> positions = new HashSet<>();
+        final Set<VolumeStream.Cursor<Volume, String>> cursors = Collections.newSetFromMap(new IdentityHashMap<>());
+        VolumeCursorTest.stream(volume, parallel, doubles).forEachCursor(cursor -> {
+            Assertions.assertTrue(positions.add(new Vector3i(cursor.x(), cursor.y(), cursor.z())), "visited twice");
+            Assertions.assertSame(volume, cursor.volume());
+            Assertions.assertEquals(VolumeCursorTest.type(cursor.x(), cursor.y(), cursor.z()), cursor.type());
+            final VolumeElement<Volume, String> element = cursor.toElement();
+            Assertions.assertEquals(new Vector3d(cursor.x() + 0.5, cursor.y() + 0.5, cursor.z() + 0.5), element.position());
+            Assertions.assertEquals(cursor.type(), element.type());
+            cursors.add(cursor);
+        });
+        Assertions.assertEquals(VolumeCursorTest.SIZE.x() * VolumeCursorTest.SIZE.y() * VolumeCursorTest.SIZE.z(), positions.size());
+        Assertions.assertEquals(1, cursors.size(), "the cursor is reused");
+    }
+
+    @Test
+    void testSequentialCursorVisitsEveryPosition() {
+        VolumeCursorTest.assertVisitsEveryPositionOnce(false, false);
+    }
+
+    @Test
+    void testParallelCursorVisitsEveryPosition() {
+        VolumeCursorTest.assertVisitsEveryPositionOnce(true, false);
+    }
+
+    @Test
+    void testCursorFloorsBlockCenters() {
+        VolumeCursorTest.assertVisitsEveryPositionOnce(false, true);
+    }
+
+    @Test
+    void testToElementMatchesElementPositions() {
+        final Volume volume = mock(Volume.class);
+        final List<Vector3d> expected = new ArrayList<>();
+        final VolumeStream<Volume, String> stream = VolumeCursorTest.stream(volume, false, false);
+        doCallRealMethod().when(stream).forEach(any(Consumer.class));
+        stream.forEach(element -> expected.add(element.position()));
+        final List<Vector3d> actual = new ArrayList<>();
+        stream.forEachCursor(cursor -> actual.add(cursor.toElement().position()));
+        Assertions.assertEquals(expected, actual);
+    }
+
+}
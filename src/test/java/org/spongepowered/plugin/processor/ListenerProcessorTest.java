@@ -0,0 +1,96 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.plugin.processor;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.StandardLocation;
+import javax.tools.ToolProvider;
+
+class ListenerProcessorTest {
+
+    @TempDir
+    Path output;
+
+    private List<String> errors(final String listener) throws IOException {
+        final String source = "package test;\n"
+            + "import org.spongepowered.api.event.Event;\n"
+            + "import org.spongepowered.api.event.Listener;\n"
+            + "import org.spongepowered.api.event.filter.data.GetValue;\n"
+            + "public class TestListener {\n"
+            + listener
+            + "}\n";
+        final JavaFileObject file = new SimpleJavaFileObject(URI.create("string:///test/TestListener.java"), JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(final boolean ignoreEncodingErrors) {
+                return source;
+            }
+        };
+        final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        final DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        try (final StandardJavaFileManager files = compiler.getStandardFileManager(diagnostics, null, StandardCharsets.UTF_8)) {
+            files.setLocationFromPaths(StandardLocation.CLASS_OUTPUT, List.of(this.output));
+            files.setLocationFromPaths(StandardLocation.SOURCE_OUTPUT, List.of(this.output));
+            final JavaCompiler.CompilationTask task = compiler.getTask(null, files, diagnostics,
+                List.of("-proc:only", "-classpath", System.getProperty("java.class.path")), null, List.of(file));
+            task.setProcessors(List.of(new ListenerProcessor()));
+            task.call();
+        }
+        return diagnostics.getDiagnostics().stream()
+            .filter(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.ERROR)
+            .map(diagnostic -> diagnostic.getMessage(null))
+            .collect(Collectors.toList());
+    }
+
+    @Test
+    void testGetValueIsAllowedOnSynchronousListeners() throws IOException {
+        Assertions.assertEquals(List.of(), this.errors(
+            "    @Listener\n"
+            + "    public void onEvent(final Event event, @GetValue(\"HEALTH\") final Double health) {}\n"));
+    }
+
+    @Test
+    void testGetValueIsRejectedOnAsynchronousListeners() throws IOException {
+        Assertions.assertEquals(List.of("Asynchronous listeners cannot use filters that depend on synchronous event state"), this.errors(
+            "    @Listener(async = true)\n"
+            + "    public void onEvent(final Event event, @GetValue(\"HEALTH\") final Double health) {}\n"));
+    }
+
+}